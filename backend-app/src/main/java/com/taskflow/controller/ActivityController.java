@@ -1,76 +1,135 @@
 package com.taskflow.controller;
 
 import com.taskflow.dto.ActivityLogResponse;
+import com.taskflow.dto.ActivityPageResponse;
 import com.taskflow.entity.ActivityLog;
-import com.taskflow.entity.Project;
+import com.taskflow.repository.ActivityCursor;
 import com.taskflow.repository.ActivityLogRepository;
-import com.taskflow.repository.ProjectRepository;
-import com.taskflow.repository.ProjectUserRepository;
-import com.taskflow.repository.UserRepository;
 import com.taskflow.security.AuthContext;
+import com.taskflow.security.AuthenticatedUser;
+import com.taskflow.security.ProjectAccessService;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.util.UriComponentsBuilder;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/projects/{projectId}/activity")
 @Validated
 public class ActivityController {
 
+    private static final int MAX_PAGE_SIZE = 200;
+
     private final ActivityLogRepository activityLogRepository;
-    private final ProjectRepository projectRepository;
-    private final ProjectUserRepository projectUserRepository;
-    private final UserRepository userRepository;
     private final AuthContext authContext;
+    private final ProjectAccessService projectAccessService;
 
     public ActivityController(
         ActivityLogRepository activityLogRepository,
-        ProjectRepository projectRepository,
-        ProjectUserRepository projectUserRepository,
-        UserRepository userRepository,
-        AuthContext authContext
+        AuthContext authContext,
+        ProjectAccessService projectAccessService
     ) {
         this.activityLogRepository = activityLogRepository;
-        this.projectRepository = projectRepository;
-        this.projectUserRepository = projectUserRepository;
-        this.userRepository = userRepository;
         this.authContext = authContext;
+        this.projectAccessService = projectAccessService;
     }
 
+    /**
+     * The newest {@value #MAX_PAGE_SIZE} entries. When there are older ones, a
+     * {@code Link: <...>; rel="next"} header points at the {@code /page} endpoint holding the
+     * rest, with the same filters.
+     */
     @GetMapping
-    public ResponseEntity<List<ActivityLogResponse>> getProjectActivity(@PathVariable Long projectId) {
-        String email = authContext.getCurrentUserEmail();
-        if (email == null) {
+    public ResponseEntity<List<ActivityLogResponse>> getProjectActivity(
+        @PathVariable Long projectId,
+        @RequestParam(required = false) String action,
+        @RequestParam(required = false) String entityType
+    ) {
+        AuthenticatedUser principal = authContext.getCurrentUser();
+        if (principal == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
 
-        Project project = projectRepository.findById(projectId)
-            .orElseThrow(() -> new RuntimeException("Project not found"));
+        try {
+            projectAccessService.requireAccess(projectId, principal);
+        } catch (RuntimeException ex) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
 
-        Long userId = userRepository.findByEmail(email)
-            .orElseThrow(() -> new RuntimeException("User not found"))
-            .getId();
+        List<ActivityLog> logs = activityLogRepository.findPage(projectId, action, entityType, null, MAX_PAGE_SIZE);
+        boolean hasMore = logs.size() > MAX_PAGE_SIZE;
+        List<ActivityLog> page = hasMore ? logs.subList(0, MAX_PAGE_SIZE) : logs;
+        List<ActivityLogResponse> responses = page.stream()
+            .map(this::toResponse)
+            .toList();
 
-        boolean isOwner = project.getOwner().getEmail().equals(email);
-        boolean isMember = projectUserRepository.findByProjectIdAndUserId(projectId, userId).isPresent();
-        if (!isOwner && !isMember) {
+        if (!hasMore) {
+            return ResponseEntity.ok(responses);
+        }
+        String next = UriComponentsBuilder.fromPath("/api/projects/{projectId}/activity/page")
+            .queryParam("cursor", ActivityCursor.of(page.get(page.size() - 1)).encode())
+            .queryParamIfPresent("action", Optional.ofNullable(action).filter(value -> !value.isBlank()))
+            .queryParamIfPresent("entityType", Optional.ofNullable(entityType).filter(value -> !value.isBlank()))
+            .buildAndExpand(projectId)
+            .encode()
+            .toUriString();
+        return ResponseEntity.ok()
+            .header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"")
+            .body(responses);
+    }
+
+    @GetMapping("/page")
+    public ResponseEntity<?> pageProjectActivity(
+        @PathVariable Long projectId,
+        @RequestParam(required = false) String action,
+        @RequestParam(required = false) String entityType,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "50") int limit
+    ) {
+        AuthenticatedUser principal = authContext.getCurrentUser();
+        if (principal == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        try {
+            projectAccessService.requireAccess(projectId, principal);
+        } catch (RuntimeException ex) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
         }
 
-        List<ActivityLog> logs = activityLogRepository.findByProjectIdOrderByCreatedAtDesc(projectId);
-        List<ActivityLogResponse> responses = logs.stream()
-            .map(log -> new ActivityLogResponse(
-                log.getId(),
-                log.getAction(),
-                log.getDescription(),
-                log.getUser().getEmail(),
-                log.getCreatedAt().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME)
-            ))
-            .toList();
+        ActivityCursor after;
+        try {
+            after = cursor != null && !cursor.isBlank() ? ActivityCursor.decode(cursor) : null;
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest().body(Map.of("error", ex.getMessage()));
+        }
+
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        List<ActivityLog> rows = activityLogRepository.findPage(projectId, action, entityType, after, pageSize);
+        boolean hasMore = rows.size() > pageSize;
+        List<ActivityLog> page = hasMore ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasMore ? ActivityCursor.of(page.get(page.size() - 1)).encode() : null;
+
+        return ResponseEntity.ok(new ActivityPageResponse(
+            page.stream().map(this::toResponse).toList(),
+            nextCursor,
+            hasMore
+        ));
+    }
 
-        return ResponseEntity.ok(responses);
+    private ActivityLogResponse toResponse(ActivityLog log) {
+        return new ActivityLogResponse(
+            log.getId(),
+            log.getAction(),
+            log.getDescription(),
+            log.getUser().getEmail(),
+            log.getCreatedAt().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME)
+        );
     }
 }
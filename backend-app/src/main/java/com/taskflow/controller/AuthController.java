@@ -43,7 +43,7 @@ public class AuthController {
 
         User user = new User(request.email(), passwordEncoder.encode(request.password()));
         userRepository.save(user);
-        String token = jwtUtil.generateToken(user.getEmail());
+        String token = jwtUtil.generateToken(user.getId(), user.getEmail());
         return ResponseEntity.ok(new AuthResponse(token));
     }
 
@@ -55,7 +55,7 @@ public class AuthController {
                     return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                         .body(Map.of("error", "Invalid credentials"));
                 }
-                String token = jwtUtil.generateToken(user.getEmail());
+                String token = jwtUtil.generateToken(user.getId(), user.getEmail());
                 return ResponseEntity.ok(new AuthResponse(token));
             })
             .orElseGet(() -> ResponseEntity.status(HttpStatus.UNAUTHORIZED)
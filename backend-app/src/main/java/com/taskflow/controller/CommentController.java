@@ -22,7 +22,6 @@ import com.taskflow.entity.Comment;
 import com.taskflow.entity.Task;
 import com.taskflow.entity.TaskAssignment;
 import com.taskflow.entity.User;
-import com.taskflow.repository.ActivityLogRepository;
 import com.taskflow.repository.CommentRepository;
 import com.taskflow.repository.TaskAssignmentRepository;
 import com.taskflow.repository.TaskRepository;
@@ -30,7 +29,9 @@ import com.taskflow.repository.UserRepository;
 import com.taskflow.security.AuthContext;
 import com.taskflow.security.ProjectAccessService;
 import com.taskflow.security.ProjectRole;
+import com.taskflow.service.ActivityLogWriter;
 import com.taskflow.service.NotificationService;
+import com.taskflow.service.ProjectEventPublisher;
 
 import jakarta.validation.Valid;
 
@@ -42,31 +43,34 @@ public class CommentController {
     private final TaskRepository taskRepository;
     private final CommentRepository commentRepository;
     private final TaskAssignmentRepository taskAssignmentRepository;
-    private final ActivityLogRepository activityLogRepository;
+    private final ActivityLogWriter activityLogWriter;
     private final NotificationService notificationService;
     private final AuthContext authContext;
     private final ProjectAccessService projectAccessService;
+    private final ProjectEventPublisher projectEvents;
 
     public CommentController(
         TaskRepository taskRepository,
         CommentRepository commentRepository,
         TaskAssignmentRepository taskAssignmentRepository,
-        ActivityLogRepository activityLogRepository,
+        ActivityLogWriter activityLogWriter,
         NotificationService notificationService,
         AuthContext authContext,
-        ProjectAccessService projectAccessService
+        ProjectAccessService projectAccessService,
+        ProjectEventPublisher projectEvents
     ) {
         this.taskRepository = taskRepository;
         this.commentRepository = commentRepository;
         this.taskAssignmentRepository = taskAssignmentRepository;
-        this.activityLogRepository = activityLogRepository;
+        this.activityLogWriter = activityLogWriter;
         this.notificationService = notificationService;
         this.authContext = authContext;
         this.projectAccessService = projectAccessService;
+        this.projectEvents = projectEvents;
     }
 
     private ProjectAccessService.AccessContext getAccess(Long projectId) {
-        return projectAccessService.requireAccess(projectId, authContext.getCurrentUserEmail());
+        return projectAccessService.requireAccess(projectId, authContext.getCurrentUser());
     }
 
     private Task getTask(Long projectId, Long taskId) {
@@ -85,7 +89,7 @@ public class CommentController {
         try {
             getAccess(projectId);
             Task task = getTask(projectId, taskId);
-            List<CommentResponse> comments = commentRepository.findByTaskOrderByCreatedAtDesc(task)
+            List<CommentResponse> comments = commentRepository.findWithAuthorByTaskIdOrderByCreatedAtDesc(task.getId())
                 .stream()
                 .map(c -> new CommentResponse(
                     c.getId(),
@@ -129,32 +133,32 @@ public class CommentController {
                 comment.getId(),
                 "Added comment to task \"" + task.getTitle() + "\""
             );
-            activityLogRepository.save(log);
-
-            List<TaskAssignment> assignments = taskAssignmentRepository.findByTaskId(task.getId());
-            for (TaskAssignment assignment : assignments) {
-                User assignee = assignment.getAssignedTo();
-                if (assignee.getId().equals(author.getId())) {
-                    continue;
-                }
-                notificationService.notify(
-                    assignee,
-                    "COMMENT_ADDED",
-                    "New comment on task",
-                    author.getEmail() + " commented on \"" + task.getTitle() + "\"",
-                    "TASK",
-                    task.getId()
-                );
-            }
+            activityLogWriter.record(log);
+
+            List<User> recipients = taskAssignmentRepository.findWithAssigneeByTaskId(task.getId())
+                .stream()
+                .map(TaskAssignment::getAssignedTo)
+                .filter(assignee -> !assignee.getId().equals(author.getId()))
+                .toList();
+            notificationService.notifyAll(
+                recipients,
+                "COMMENT_ADDED",
+                "New comment on task",
+                author.getEmail() + " commented on \"" + task.getTitle() + "\"",
+                "TASK",
+                task.getId()
+            );
 
+            CommentResponse response = new CommentResponse(
+                comment.getId(),
+                comment.getContent(),
+                comment.getAuthor().getEmail(),
+                comment.getCreatedAt(),
+                comment.getUpdatedAt()
+            );
+            projectEvents.commentAdded(projectId, task.getId(), response);
             return ResponseEntity.status(HttpStatus.CREATED)
-                .body(new CommentResponse(
-                    comment.getId(),
-                    comment.getContent(),
-                    comment.getAuthor().getEmail(),
-                    comment.getCreatedAt(),
-                    comment.getUpdatedAt()
-                ));
+                .body(response);
         } catch (Exception ex) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN)
                 .body(Map.of("error", ex.getMessage()));
@@ -170,12 +174,11 @@ public class CommentController {
     ) {
         try {
             ProjectAccessService.AccessContext access = getAccess(projectId);
-            String email = authContext.getCurrentUserEmail();
 
             Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> new RuntimeException("Comment not found"));
 
-            boolean isAuthor = comment.getAuthor().getEmail().equals(email);
+            boolean isAuthor = comment.getAuthor().getId().equals(access.getUser().getId());
             boolean canModerate = access.getRole() == ProjectRole.OWNER || access.getRole() == ProjectRole.ADMIN;
             if (!isAuthor && !canModerate) {
                 return ResponseEntity.status(HttpStatus.FORBIDDEN)
@@ -206,12 +209,11 @@ public class CommentController {
     ) {
         try {
             ProjectAccessService.AccessContext access = getAccess(projectId);
-            String email = authContext.getCurrentUserEmail();
 
             Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> new RuntimeException("Comment not found"));
 
-            boolean isAuthor = comment.getAuthor().getEmail().equals(email);
+            boolean isAuthor = comment.getAuthor().getId().equals(access.getUser().getId());
             boolean canModerate = access.getRole() == ProjectRole.OWNER || access.getRole() == ProjectRole.ADMIN;
             if (!isAuthor && !canModerate) {
                 return ResponseEntity.status(HttpStatus.FORBIDDEN)
@@ -228,7 +230,7 @@ public class CommentController {
                 comment.getId(),
                 "Deleted comment on task \"" + comment.getTask().getTitle() + "\""
             );
-            activityLogRepository.save(log);
+            activityLogWriter.record(log);
             return ResponseEntity.noContent().build();
         } catch (Exception ex) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN)
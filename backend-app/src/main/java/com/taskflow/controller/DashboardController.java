@@ -1,8 +1,5 @@
 package com.taskflow.controller;
 
-import java.time.LocalDate;
-import java.util.LinkedHashMap;
-import java.util.List;
 import java.util.Map;
 
 import org.springframework.http.HttpStatus;
@@ -13,14 +10,10 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.taskflow.dto.DashboardStatsResponse;
-import com.taskflow.entity.Project;
-import com.taskflow.entity.Task;
-import com.taskflow.entity.User;
 import com.taskflow.repository.ProjectRepository;
-import com.taskflow.repository.ProjectUserRepository;
-import com.taskflow.repository.TaskRepository;
-import com.taskflow.repository.UserRepository;
+import com.taskflow.repository.ProjectTaskStatsRepository;
 import com.taskflow.security.AuthContext;
+import com.taskflow.service.ProjectTaskStatsService;
 
 @RestController
 @RequestMapping("/api/dashboard")
@@ -28,62 +21,36 @@ import com.taskflow.security.AuthContext;
 public class DashboardController {
 
     private final ProjectRepository projectRepository;
-    private final ProjectUserRepository projectUserRepository;
-    private final TaskRepository taskRepository;
-    private final UserRepository userRepository;
+    private final ProjectTaskStatsService projectTaskStatsService;
     private final AuthContext authContext;
 
     public DashboardController(
         ProjectRepository projectRepository,
-        ProjectUserRepository projectUserRepository,
-        TaskRepository taskRepository,
-        UserRepository userRepository,
+        ProjectTaskStatsService projectTaskStatsService,
         AuthContext authContext
     ) {
         this.projectRepository = projectRepository;
-        this.projectUserRepository = projectUserRepository;
-        this.taskRepository = taskRepository;
-        this.userRepository = userRepository;
+        this.projectTaskStatsService = projectTaskStatsService;
         this.authContext = authContext;
     }
 
     @GetMapping("/stats")
     public ResponseEntity<?> getStats() {
-        String email = authContext.getCurrentUserEmail();
-        if (email == null) {
+        Long userId = authContext.getCurrentUserId();
+        if (userId == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                 .body(Map.of("error", "Not authenticated"));
         }
 
-        User user = userRepository.findByEmail(email)
-            .orElseThrow(() -> new RuntimeException("User not found"));
+        long projectCount = projectRepository.countAccessibleByUserId(userId);
 
-        Map<Long, Project> projectMap = new LinkedHashMap<>();
-        projectRepository.findByOwner(user)
-            .forEach(project -> projectMap.put(project.getId(), project));
-
-        projectUserRepository.findByUserId(user.getId())
-            .forEach(member -> projectMap.putIfAbsent(member.getProject().getId(), member.getProject()));
-
-        List<Project> projects = projectMap.values().stream().toList();
-        List<Task> tasks = projects.isEmpty() ? List.of() : taskRepository.findByProjectIn(projects);
-
-        int doneTasks = (int) tasks.stream()
-            .filter(task -> task.getStatus() == Task.Status.DONE)
-            .count();
-
-        LocalDate today = LocalDate.now();
-        int overdueTasks = (int) tasks.stream()
-            .filter(task -> task.getDueDate() != null)
-            .filter(task -> task.getDueDate().isBefore(today))
-            .filter(task -> task.getStatus() != Task.Status.DONE)
-            .count();
+        ProjectTaskStatsRepository.Totals totals = projectTaskStatsService.totalsForUser(userId);
 
         DashboardStatsResponse response = new DashboardStatsResponse(
-            projects.size(),
-            tasks.size(),
-            doneTasks,
-            overdueTasks
+            (int) projectCount,
+            totals.getTotal().intValue(),
+            totals.getDone().intValue(),
+            totals.getOverdue().intValue()
         );
 
         return ResponseEntity.ok(response);
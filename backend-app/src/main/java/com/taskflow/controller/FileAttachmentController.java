@@ -8,18 +8,28 @@ import com.taskflow.entity.User;
 import com.taskflow.repository.CommentRepository;
 import com.taskflow.repository.FileAttachmentRepository;
 import com.taskflow.repository.TaskRepository;
-import com.taskflow.repository.UserRepository;
 import com.taskflow.security.AuthContext;
+import com.taskflow.security.AuthenticatedUser;
 import com.taskflow.security.ProjectAccessService;
+import com.taskflow.service.AttachmentDownloadService;
 import com.taskflow.service.FileUploadService;
+import com.taskflow.service.StorageBackend;
+import com.taskflow.service.ThumbnailService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.nio.channels.Channels;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @RestController
@@ -36,9 +46,6 @@ public class FileAttachmentController {
     @Autowired
     private CommentRepository commentRepository;
 
-    @Autowired
-    private UserRepository userRepository;
-
     @Autowired
     private FileUploadService fileUploadService;
 
@@ -48,6 +55,12 @@ public class FileAttachmentController {
     @Autowired
     private AuthContext authContext;
 
+    @Autowired
+    private AttachmentDownloadService attachmentDownloadService;
+
+    @Autowired
+    private ThumbnailService thumbnailService;
+
     // Upload file to task
     @PostMapping
     public ResponseEntity<?> uploadTaskAttachment(
@@ -55,14 +68,14 @@ public class FileAttachmentController {
             @PathVariable Long taskId,
             @RequestParam("file") MultipartFile file) {
         try {
-            // Get current user email
-            String email = authContext.getCurrentUserEmail();
-            if (email == null) {
+            // Get current user
+            AuthenticatedUser principal = authContext.getCurrentUser();
+            if (principal == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("User not authenticated");
             }
 
             // Check project access
-            projectAccessService.requireAccess(projectId, email);
+            var access = projectAccessService.requireAccess(projectId, principal);
 
             // Get task
             Task task = taskRepository.findById(taskId)
@@ -74,22 +87,21 @@ public class FileAttachmentController {
             }
 
             // Get current user
-            User currentUser = userRepository.findByEmail(email)
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-
-            // Save file
-            String fileName = fileUploadService.saveFile(file);
-
-            // Create file attachment record
-            FileAttachment attachment = new FileAttachment(
-                    file.getOriginalFilename(),
-                    file.getContentType(),
-                    file.getSize(),
-                    fileName,
-                    currentUser
-            );
-            attachment.setTask(task);
-            attachment = fileAttachmentRepository.save(attachment);
+            User currentUser = access.getUser();
+
+            // Save file and create the attachment record referencing it
+            FileAttachment attachment = fileUploadService.saveFile(file, storagePath -> {
+                FileAttachment created = new FileAttachment(
+                        file.getOriginalFilename(),
+                        file.getContentType(),
+                        file.getSize(),
+                        storagePath,
+                        currentUser
+                );
+                created.setTask(task);
+                return fileAttachmentRepository.save(created);
+            });
+            thumbnailService.requestThumbnail(attachment);
 
             return ResponseEntity.status(HttpStatus.CREATED).body(toResponse(attachment));
         } catch (IOException e) {
@@ -104,14 +116,14 @@ public class FileAttachmentController {
             @PathVariable Long projectId,
             @PathVariable Long taskId) {
         try {
-            // Get current user email
-            String email = authContext.getCurrentUserEmail();
-            if (email == null) {
+            // Get current user
+            AuthenticatedUser principal = authContext.getCurrentUser();
+            if (principal == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("User not authenticated");
             }
 
             // Check project access
-            projectAccessService.requireAccess(projectId, email);
+            projectAccessService.requireAccess(projectId, principal);
 
             // Verify task exists and belongs to project
             Task task = taskRepository.findById(taskId)
@@ -133,6 +145,77 @@ public class FileAttachmentController {
         }
     }
 
+    // Download task attachment, supporting Range requests
+    @GetMapping("/{fileId}/download")
+    public ResponseEntity<?> downloadTaskAttachment(
+            @PathVariable Long projectId,
+            @PathVariable Long taskId,
+            @PathVariable Long fileId,
+            HttpServletRequest request,
+            HttpServletResponse response) {
+        FileAttachment file;
+        try {
+            // Get current user
+            AuthenticatedUser principal = authContext.getCurrentUser();
+            if (principal == null) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("User not authenticated");
+            }
+
+            // Check project access
+            projectAccessService.requireAccess(projectId, principal);
+
+            // Verify task belongs to project
+            Task task = taskRepository.findById(taskId)
+                    .orElseThrow(() -> new RuntimeException("Task not found"));
+
+            if (!task.getProject().getId().equals(projectId)) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).body("Task does not belong to this project");
+            }
+
+            // Get file attachment
+            file = fileAttachmentRepository.findByIdAndTaskId(fileId, taskId)
+                    .orElseThrow(() -> new RuntimeException("File not found"));
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage());
+        }
+
+        return sendAttachment(file, request, response);
+    }
+
+    // Get task attachment thumbnail
+    @GetMapping("/{fileId}/thumbnail")
+    public ResponseEntity<?> getTaskAttachmentThumbnail(
+            @PathVariable Long projectId,
+            @PathVariable Long taskId,
+            @PathVariable Long fileId) {
+        try {
+            // Get current user
+            AuthenticatedUser principal = authContext.getCurrentUser();
+            if (principal == null) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("User not authenticated");
+            }
+
+            // Check project access
+            projectAccessService.requireAccess(projectId, principal);
+
+            // Verify task belongs to project
+            Task task = taskRepository.findById(taskId)
+                    .orElseThrow(() -> new RuntimeException("Task not found"));
+
+            if (!task.getProject().getId().equals(projectId)) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).body("Task does not belong to this project");
+            }
+
+            // Get file attachment
+            FileAttachment file = fileAttachmentRepository.findByIdAndTaskId(fileId, taskId)
+                    .orElseThrow(() -> new RuntimeException("File not found"));
+
+            return thumbnail(file);
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage());
+        }
+    }
+
     // Delete task attachment
     @DeleteMapping("/{fileId}")
     public ResponseEntity<?> deleteTaskAttachment(
@@ -140,19 +223,15 @@ public class FileAttachmentController {
             @PathVariable Long taskId,
             @PathVariable Long fileId) {
         try {
-            // Get current user email
-            String email = authContext.getCurrentUserEmail();
-            if (email == null) {
+            // Get current user
+            AuthenticatedUser principal = authContext.getCurrentUser();
+            if (principal == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("User not authenticated");
             }
 
-            // Check project access
-            projectAccessService.requireAccess(projectId, email);
-
-            // Get user role
-            var access = projectAccessService.requireAccess(projectId, email);
-            User currentUser = userRepository.findByEmail(email)
-                    .orElseThrow(() -> new RuntimeException("User not found"));
+            // Check project access and get user role
+            var access = projectAccessService.requireAccess(projectId, principal);
+            User currentUser = access.getUser();
 
             // Get file attachment
             FileAttachment file = fileAttachmentRepository.findByIdAndTaskId(fileId, taskId)
@@ -166,12 +245,12 @@ public class FileAttachmentController {
                 return ResponseEntity.status(HttpStatus.FORBIDDEN).body("Cannot delete this file");
             }
 
-            // Delete file from storage
-            fileUploadService.deleteFile(file.getStoragePath());
-
             // Delete from database
             fileAttachmentRepository.delete(file);
 
+            // Delete file from storage once nothing else references it
+            fileUploadService.deleteFile(file.getStoragePath());
+
             return ResponseEntity.ok().build();
         } catch (RuntimeException e) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage());
@@ -189,14 +268,14 @@ public class FileAttachmentController {
             @PathVariable Long commentId,
             @RequestParam("file") MultipartFile file) {
         try {
-            // Get current user email
-            String email = authContext.getCurrentUserEmail();
-            if (email == null) {
+            // Get current user
+            AuthenticatedUser principal = authContext.getCurrentUser();
+            if (principal == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("User not authenticated");
             }
 
             // Check project access
-            projectAccessService.requireAccess(projectId, email);
+            var access = projectAccessService.requireAccess(projectId, principal);
 
             // Get comment
             Comment comment = commentRepository.findById(commentId)
@@ -208,22 +287,21 @@ public class FileAttachmentController {
             }
 
             // Get current user
-            User currentUser = userRepository.findByEmail(email)
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-
-            // Save file
-            String fileName = fileUploadService.saveFile(file);
-
-            // Create file attachment record
-            FileAttachment attachment = new FileAttachment(
-                    file.getOriginalFilename(),
-                    file.getContentType(),
-                    file.getSize(),
-                    fileName,
-                    currentUser
-            );
-            attachment.setComment(comment);
-            attachment = fileAttachmentRepository.save(attachment);
+            User currentUser = access.getUser();
+
+            // Save file and create the attachment record referencing it
+            FileAttachment attachment = fileUploadService.saveFile(file, storagePath -> {
+                FileAttachment created = new FileAttachment(
+                        file.getOriginalFilename(),
+                        file.getContentType(),
+                        file.getSize(),
+                        storagePath,
+                        currentUser
+                );
+                created.setComment(comment);
+                return fileAttachmentRepository.save(created);
+            });
+            thumbnailService.requestThumbnail(attachment);
 
             return ResponseEntity.status(HttpStatus.CREATED).body(toResponse(attachment));
         } catch (IOException e) {
@@ -239,14 +317,14 @@ public class FileAttachmentController {
             @PathVariable Long taskId,
             @PathVariable Long commentId) {
         try {
-            // Get current user email
-            String email = authContext.getCurrentUserEmail();
-            if (email == null) {
+            // Get current user
+            AuthenticatedUser principal = authContext.getCurrentUser();
+            if (principal == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("User not authenticated");
             }
 
             // Check project access
-            projectAccessService.requireAccess(projectId, email);
+            projectAccessService.requireAccess(projectId, principal);
 
             // Verify comment exists
             Comment comment = commentRepository.findById(commentId)
@@ -268,6 +346,79 @@ public class FileAttachmentController {
         }
     }
 
+    // Download comment attachment, supporting Range requests
+    @GetMapping("/../comments/{commentId}/attachments/{fileId}/download")
+    public ResponseEntity<?> downloadCommentAttachment(
+            @PathVariable Long projectId,
+            @PathVariable Long taskId,
+            @PathVariable Long commentId,
+            @PathVariable Long fileId,
+            HttpServletRequest request,
+            HttpServletResponse response) {
+        FileAttachment file;
+        try {
+            // Get current user
+            AuthenticatedUser principal = authContext.getCurrentUser();
+            if (principal == null) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("User not authenticated");
+            }
+
+            // Check project access
+            projectAccessService.requireAccess(projectId, principal);
+
+            // Verify comment belongs to task in project
+            Comment comment = commentRepository.findById(commentId)
+                    .orElseThrow(() -> new RuntimeException("Comment not found"));
+
+            if (!comment.getTask().getId().equals(taskId) || !comment.getTask().getProject().getId().equals(projectId)) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).body("Comment does not belong to this task");
+            }
+
+            // Get file attachment
+            file = fileAttachmentRepository.findByIdAndCommentId(fileId, commentId)
+                    .orElseThrow(() -> new RuntimeException("File not found"));
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage());
+        }
+
+        return sendAttachment(file, request, response);
+    }
+
+    // Get comment attachment thumbnail
+    @GetMapping("/../comments/{commentId}/attachments/{fileId}/thumbnail")
+    public ResponseEntity<?> getCommentAttachmentThumbnail(
+            @PathVariable Long projectId,
+            @PathVariable Long taskId,
+            @PathVariable Long commentId,
+            @PathVariable Long fileId) {
+        try {
+            // Get current user
+            AuthenticatedUser principal = authContext.getCurrentUser();
+            if (principal == null) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("User not authenticated");
+            }
+
+            // Check project access
+            projectAccessService.requireAccess(projectId, principal);
+
+            // Verify comment belongs to task in project
+            Comment comment = commentRepository.findById(commentId)
+                    .orElseThrow(() -> new RuntimeException("Comment not found"));
+
+            if (!comment.getTask().getId().equals(taskId) || !comment.getTask().getProject().getId().equals(projectId)) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).body("Comment does not belong to this task");
+            }
+
+            // Get file attachment
+            FileAttachment file = fileAttachmentRepository.findByIdAndCommentId(fileId, commentId)
+                    .orElseThrow(() -> new RuntimeException("File not found"));
+
+            return thumbnail(file);
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage());
+        }
+    }
+
     // Delete comment attachment
     @DeleteMapping("/../comments/{commentId}/attachments/{fileId}")
     public ResponseEntity<?> deleteCommentAttachment(
@@ -276,19 +427,15 @@ public class FileAttachmentController {
             @PathVariable Long commentId,
             @PathVariable Long fileId) {
         try {
-            // Get current user email
-            String email = authContext.getCurrentUserEmail();
-            if (email == null) {
+            // Get current user
+            AuthenticatedUser principal = authContext.getCurrentUser();
+            if (principal == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("User not authenticated");
             }
 
-            // Check project access
-            projectAccessService.requireAccess(projectId, email);
-
-            // Get user role
-            var access = projectAccessService.requireAccess(projectId, email);
-            User currentUser = userRepository.findByEmail(email)
-                    .orElseThrow(() -> new RuntimeException("User not found"));
+            // Check project access and get user role
+            var access = projectAccessService.requireAccess(projectId, principal);
+            User currentUser = access.getUser();
 
             // Get file attachment
             FileAttachment file = fileAttachmentRepository.findByIdAndCommentId(fileId, commentId)
@@ -302,12 +449,12 @@ public class FileAttachmentController {
                 return ResponseEntity.status(HttpStatus.FORBIDDEN).body("Cannot delete this file");
             }
 
-            // Delete file from storage
-            fileUploadService.deleteFile(file.getStoragePath());
-
             // Delete from database
             fileAttachmentRepository.delete(file);
 
+            // Delete file from storage once nothing else references it
+            fileUploadService.deleteFile(file.getStoragePath());
+
             return ResponseEntity.ok().build();
         } catch (RuntimeException e) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage());
@@ -317,16 +464,42 @@ public class FileAttachmentController {
         }
     }
 
+    // Helper method to stream an attachment; the body is written directly to the response
+    private ResponseEntity<?> sendAttachment(FileAttachment file, HttpServletRequest request, HttpServletResponse response) {
+        try {
+            attachmentDownloadService.send(file, request, response);
+            return null;
+        } catch (IOException e) {
+            if (response.isCommitted()) {
+                // Client went away mid-transfer; nothing more can be sent
+                return null;
+            }
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body("File download failed: " + e.getMessage());
+        }
+    }
+
+    // Helper method to serve a thumbnail; it never changes for an attachment, so it is cached long-term
+    private ResponseEntity<?> thumbnail(FileAttachment file) {
+        String key = fileUploadService.getThumbnailKey(file.getStoragePath());
+        try {
+            StorageBackend.ObjectInfo info = fileUploadService.stat(key);
+            if (info == null) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Thumbnail not available");
+            }
+            return ResponseEntity.ok()
+                    .cacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePrivate().immutable())
+                    .contentType(MediaType.IMAGE_JPEG)
+                    .contentLength(info.size())
+                    .body(new InputStreamResource(Channels.newInputStream(fileUploadService.open(key, 0, info.size()))));
+        } catch (IOException e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body("Thumbnail read failed: " + e.getMessage());
+        }
+    }
+
     // Helper method to convert FileAttachment to DTO
     private FileAttachmentResponse toResponse(FileAttachment attachment) {
-        return new FileAttachmentResponse(
-                attachment.getId(),
-                attachment.getFileName(),
-                attachment.getFileType(),
-                attachment.getFileSize(),
-                attachment.getUploadedAt(),
-                attachment.getUploadedBy().getEmail(),
-                attachment.getUploadedBy().getEmail()
-        );
+        return FileAttachmentResponse.from(attachment);
     }
 }
@@ -1,47 +1,52 @@
 package com.taskflow.controller;
 
+import com.taskflow.dto.NotificationBulkResponse;
+import com.taskflow.dto.NotificationIdsRequest;
 import com.taskflow.dto.NotificationResponse;
 import com.taskflow.entity.Notification;
-import com.taskflow.entity.User;
 import com.taskflow.repository.NotificationRepository;
-import com.taskflow.repository.UserRepository;
 import com.taskflow.security.AuthContext;
 import com.taskflow.service.NotificationStreamService;
+import com.taskflow.service.UnreadNotificationCounter;
+import jakarta.validation.constraints.Min;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/notifications")
 @Validated
 public class NotificationController {
 
+    private static final int MAX_BULK_IDS = 1000;
+
     private final NotificationRepository notificationRepository;
-    private final UserRepository userRepository;
     private final AuthContext authContext;
     private final NotificationStreamService notificationStreamService;
+    private final UnreadNotificationCounter unreadCounter;
 
     public NotificationController(
         NotificationRepository notificationRepository,
-        UserRepository userRepository,
         AuthContext authContext,
-        NotificationStreamService notificationStreamService
+        NotificationStreamService notificationStreamService,
+        UnreadNotificationCounter unreadCounter
     ) {
         this.notificationRepository = notificationRepository;
-        this.userRepository = userRepository;
         this.authContext = authContext;
         this.notificationStreamService = notificationStreamService;
+        this.unreadCounter = unreadCounter;
     }
 
     @GetMapping
     public ResponseEntity<List<NotificationResponse>> getNotifications() {
-        String email = authContext.getCurrentUserEmail();
-        User user = userRepository.findByEmail(email)
-            .orElseThrow(() -> new RuntimeException("User not found"));
+        Long userId = authContext.getCurrentUserId();
 
-        List<Notification> notifications = notificationRepository.findByUserIdOrderByCreatedAtDesc(user.getId());
+        List<Notification> notifications = notificationRepository.findByUserIdOrderByCreatedAtDesc(userId);
         List<NotificationResponse> responses = notifications.stream()
             .map(n -> new NotificationResponse(
                 n.getId(),
@@ -58,48 +63,77 @@ public class NotificationController {
 
     @GetMapping("/unread/count")
     public ResponseEntity<Integer> getUnreadCount() {
-        String email = authContext.getCurrentUserEmail();
-        User user = userRepository.findByEmail(email)
-            .orElseThrow(() -> new RuntimeException("User not found"));
+        Long userId = authContext.getCurrentUserId();
 
-        int count = notificationRepository.countByUserIdAndIsReadFalse(user.getId());
-        return ResponseEntity.ok(count);
+        return ResponseEntity.ok(unreadCounter.get(userId));
     }
 
     @PutMapping("/{id}/read")
     public ResponseEntity<Void> markAsRead(@PathVariable Long id) {
-        String email = authContext.getCurrentUserEmail();
-        if (email == null) {
+        Long userId = authContext.getCurrentUserId();
+        if (userId == null) {
             return ResponseEntity.status(401).build();
         }
 
         Notification notification = notificationRepository.findById(id)
             .orElseThrow(() -> new RuntimeException("Notification not found"));
 
-        if (!notification.getUser().getEmail().equals(email)) {
+        if (!notification.getUser().getId().equals(userId)) {
             return ResponseEntity.status(403).build();
         }
 
-        notification.setRead(true);
-        notificationRepository.save(notification);
-        int unreadCount = notificationRepository.countByUserIdAndIsReadFalse(notification.getUser().getId());
-        notificationStreamService.sendUnreadCount(notification.getUser().getId(), unreadCount);
+        // Conditional update, so concurrent requests lower the count once
+        readTransition(userId, notificationRepository.markRead(userId, List.of(id)));
         return ResponseEntity.noContent().build();
     }
 
     @PutMapping("/read-all")
     public ResponseEntity<Void> markAllAsRead() {
-        String email = authContext.getCurrentUserEmail();
-        User user = userRepository.findByEmail(email)
-            .orElseThrow(() -> new RuntimeException("User not found"));
+        Long userId = authContext.getCurrentUserId();
 
-        List<Notification> unread = notificationRepository.findByUserIdAndIsReadFalseOrderByCreatedAtDesc(user.getId());
-        unread.forEach(n -> n.setRead(true));
-        notificationRepository.saveAll(unread);
+        readTransition(userId, notificationRepository.markAllRead(userId));
+        return ResponseEntity.noContent().build();
+    }
 
-        int unreadCount = notificationRepository.countByUserIdAndIsReadFalse(user.getId());
-        notificationStreamService.sendUnreadCount(user.getId(), unreadCount);
+    @PutMapping("/read")
+    public ResponseEntity<?> markSelectedAsRead(@RequestBody NotificationIdsRequest request) {
+        Long userId = authContext.getCurrentUserId();
+        if (request.ids() == null || request.ids().isEmpty()) {
+            return ResponseEntity.badRequest().body(Map.of("error", "ids must not be empty"));
+        }
+        if (request.ids().size() > MAX_BULK_IDS) {
+            return ResponseEntity.badRequest().body(Map.of("error", "At most " + MAX_BULK_IDS + " ids per request"));
+        }
 
-        return ResponseEntity.noContent().build();
+        int updated = notificationRepository.markRead(userId, request.ids());
+        return ResponseEntity.ok(readTransition(userId, updated));
+    }
+
+    @PutMapping("/read-up-to")
+    public ResponseEntity<NotificationBulkResponse> markReadUpTo(
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime before
+    ) {
+        Long userId = authContext.getCurrentUserId();
+
+        int updated = notificationRepository.markReadUpTo(userId, before);
+        return ResponseEntity.ok(readTransition(userId, updated));
+    }
+
+    @DeleteMapping("/read")
+    public ResponseEntity<NotificationBulkResponse> deleteReadNotifications(
+        @RequestParam @Min(0) int olderThanDays
+    ) {
+        Long userId = authContext.getCurrentUserId();
+
+        int deleted = notificationRepository.deleteReadBefore(userId, LocalDateTime.now().minusDays(olderThanDays));
+        return ResponseEntity.ok(new NotificationBulkResponse(deleted, unreadCounter.get(userId)));
+    }
+
+    private NotificationBulkResponse readTransition(Long userId, int updated) {
+        int unreadCount = updated > 0 ? unreadCounter.read(userId, updated) : unreadCounter.get(userId);
+        if (updated > 0) {
+            notificationStreamService.sendUnreadChange(userId, -updated);
+        }
+        return new NotificationBulkResponse(updated, unreadCount);
     }
 }
@@ -1,53 +1,64 @@
 package com.taskflow.controller;
 
-import com.taskflow.entity.User;
-import com.taskflow.repository.NotificationRepository;
 import com.taskflow.repository.UserRepository;
+import com.taskflow.security.AuthenticatedUser;
 import com.taskflow.security.JwtUtil;
 import com.taskflow.service.NotificationStreamService;
+import com.taskflow.service.UnreadNotificationCounter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.server.ResponseStatusException;
-import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
 
 @RestController
 @RequestMapping("/api/notifications")
 public class NotificationStreamController {
 
     private final NotificationStreamService streamService;
-    private final NotificationRepository notificationRepository;
+    private final UnreadNotificationCounter unreadCounter;
     private final UserRepository userRepository;
     private final JwtUtil jwtUtil;
 
     public NotificationStreamController(
         NotificationStreamService streamService,
-        NotificationRepository notificationRepository,
+        UnreadNotificationCounter unreadCounter,
         UserRepository userRepository,
         JwtUtil jwtUtil
     ) {
         this.streamService = streamService;
-        this.notificationRepository = notificationRepository;
+        this.unreadCounter = unreadCounter;
         this.userRepository = userRepository;
         this.jwtUtil = jwtUtil;
     }
 
     @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public SseEmitter streamNotifications(@RequestParam(required = false) String token) {
-        if (token == null || !jwtUtil.validateToken(token)) {
+    public void streamNotifications(
+        @RequestParam(required = false) String token,
+        @RequestHeader(value = "Last-Event-ID", required = false) String lastEventIdHeader,
+        @RequestParam(required = false) String lastEventId,
+        HttpServletRequest request,
+        HttpServletResponse response
+    ) throws IOException {
+        AuthenticatedUser principal = token != null ? jwtUtil.verify(token) : null;
+        if (principal == null) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid token");
         }
 
-        String email = jwtUtil.getEmailFromToken(token);
-        User user = userRepository.findByEmail(email)
-            .orElseThrow(() -> new RuntimeException("User not found"));
+        Long userId = principal.id() != null
+            ? principal.id()
+            : userRepository.findByEmail(principal.email())
+                .orElseThrow(() -> new RuntimeException("User not found"))
+                .getId();
 
-        SseEmitter emitter = streamService.createEmitter(user.getId());
-        int count = notificationRepository.countByUserIdAndIsReadFalse(user.getId());
-        streamService.sendUnreadCount(user.getId(), count);
-        return emitter;
+        Long resumeFrom = StreamRequests.resumeFrom(lastEventIdHeader, lastEventId);
+        streamService.openNotificationStream(request, response, userId, resumeFrom, unreadCounter.get(userId));
     }
 }
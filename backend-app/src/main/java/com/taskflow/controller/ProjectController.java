@@ -35,9 +35,14 @@ import com.taskflow.repository.TaskAssignmentRepository;
 import com.taskflow.repository.TaskRepository;
 import com.taskflow.repository.UserRepository;
 import com.taskflow.security.AuthContext;
+import com.taskflow.security.AuthenticatedUser;
 import com.taskflow.security.ProjectAccessService;
 import com.taskflow.security.ProjectRole;
+import com.taskflow.service.ActivityLogWriter;
 import com.taskflow.service.NotificationService;
+import com.taskflow.service.ProjectEventPublisher;
+import com.taskflow.service.ProjectTaskStatsService;
+import com.taskflow.service.TaskSearchIndex;
 
 import jakarta.transaction.Transactional;
 
@@ -56,8 +61,12 @@ public class ProjectController {
     private final TaskAssignmentRepository taskAssignmentRepository;
     private final NotificationService notificationService;
     private final ActivityLogRepository activityLogRepository;
+    private final ActivityLogWriter activityLogWriter;
     private final AuthContext authContext;
     private final ProjectAccessService projectAccessService;
+    private final TaskSearchIndex taskSearchIndex;
+    private final ProjectTaskStatsService projectTaskStatsService;
+    private final ProjectEventPublisher projectEvents;
 
     private ResponseEntity<?> accessError(RuntimeException ex) {
         HttpStatus status = "Not authenticated".equals(ex.getMessage())
@@ -75,8 +84,12 @@ public class ProjectController {
         TaskAssignmentRepository taskAssignmentRepository,
         NotificationService notificationService,
         ActivityLogRepository activityLogRepository,
+        ActivityLogWriter activityLogWriter,
         AuthContext authContext,
-        ProjectAccessService projectAccessService
+        ProjectAccessService projectAccessService,
+        TaskSearchIndex taskSearchIndex,
+        ProjectTaskStatsService projectTaskStatsService,
+        ProjectEventPublisher projectEvents
     ) {
         this.projectRepository = projectRepository;
         this.userRepository = userRepository;
@@ -86,55 +99,68 @@ public class ProjectController {
         this.taskAssignmentRepository = taskAssignmentRepository;
         this.notificationService = notificationService;
         this.activityLogRepository = activityLogRepository;
+        this.activityLogWriter = activityLogWriter;
         this.authContext = authContext;
         this.projectAccessService = projectAccessService;
+        this.taskSearchIndex = taskSearchIndex;
+        this.projectTaskStatsService = projectTaskStatsService;
+        this.projectEvents = projectEvents;
+    }
+
+    private ProjectMemberResponse toMemberResponse(ProjectUser projectUser) {
+        return new ProjectMemberResponse(
+            projectUser.getUser().getId(),
+            projectUser.getUser().getEmail(),
+            projectUser.getRole(),
+            projectUser.getJoinedAt().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME)
+        );
     }
 
     @GetMapping
     public ResponseEntity<?> listProjects() {
-        String email = authContext.getCurrentUserEmail();
-        if (email == null) {
+        AuthenticatedUser principal = authContext.getCurrentUser();
+        if (principal == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                 .body(Map.of("error", "Not authenticated"));
         }
 
-        User owner = userRepository.findByEmail(email)
-            .orElseThrow(() -> new RuntimeException("User not found"));
+        User owner = userRepository.getReferenceById(principal.id());
 
-        Map<Long, Project> allProjects = new LinkedHashMap<>();
+        // Owned projects and memberships each come back in one query with owners fetched,
+        // and the caller's role is read off the membership row instead of looked up per project
+        Map<Long, ProjectResponse> allProjects = new LinkedHashMap<>();
         projectRepository.findByOwner(owner)
-            .forEach(project -> allProjects.put(project.getId(), project));
+            .forEach(p -> allProjects.put(p.getId(),
+                new ProjectResponse(p.getId(), p.getName(), p.getOwner().getEmail(), ProjectRole.OWNER.name())));
 
-        projectUserRepository.findByUserId(owner.getId())
-            .forEach(member -> allProjects.putIfAbsent(member.getProject().getId(), member.getProject()));
+        projectUserRepository.findWithProjectByUserId(principal.id())
+            .forEach(member -> {
+                Project p = member.getProject();
+                allProjects.putIfAbsent(p.getId(),
+                    new ProjectResponse(p.getId(), p.getName(), p.getOwner().getEmail(), ProjectRole.from(member.getRole()).name()));
+            });
 
-        List<ProjectResponse> projects = allProjects.values().stream()
-            .map(p -> {
-                ProjectRole role = projectAccessService.resolveRole(p, owner);
-                String roleName = role != null ? role.name() : ProjectRole.VIEWER.name();
-                return new ProjectResponse(p.getId(), p.getName(), p.getOwner().getEmail(), roleName);
-            })
-            .toList();
+        List<ProjectResponse> projects = List.copyOf(allProjects.values());
 
         return ResponseEntity.ok(projects);
     }
 
     @PostMapping
     public ResponseEntity<?> createProject(@Valid @RequestBody ProjectRequest request) {
-        String email = authContext.getCurrentUserEmail();
-        if (email == null) {
+        AuthenticatedUser principal = authContext.getCurrentUser();
+        if (principal == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                 .body(Map.of("error", "Not authenticated"));
         }
 
-        User owner = userRepository.findByEmail(email)
-            .orElseThrow(() -> new RuntimeException("User not found"));
+        User owner = userRepository.getReferenceById(principal.id());
 
         Project project = new Project(request.name(), owner);
         projectRepository.save(project);
 
         ProjectUser projectUser = new ProjectUser(project, owner, "OWNER");
         projectUserRepository.save(projectUser);
+        projectTaskStatsService.projectCreated(project.getId());
 
         ActivityLog log = new ActivityLog(
             project,
@@ -144,16 +170,16 @@ public class ProjectController {
             project.getId(),
             "Created project \"" + project.getName() + "\""
         );
-        activityLogRepository.save(log);
+        activityLogWriter.record(log);
 
         return ResponseEntity.status(HttpStatus.CREATED)
-            .body(new ProjectResponse(project.getId(), project.getName(), project.getOwner().getEmail(), ProjectRole.OWNER.name()));
+            .body(new ProjectResponse(project.getId(), project.getName(), principal.email(), ProjectRole.OWNER.name()));
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<?> getProject(@PathVariable Long id) {
         try {
-            ProjectAccessService.AccessContext access = projectAccessService.requireAccess(id, authContext.getCurrentUserEmail());
+            ProjectAccessService.AccessContext access = projectAccessService.requireAccess(id, authContext.getCurrentUser());
             Project project = access.getProject();
             ProjectResponse response = new ProjectResponse(
                 project.getId(),
@@ -172,7 +198,7 @@ public class ProjectController {
     public ResponseEntity<?> deleteProject(@PathVariable Long id) {
         ProjectAccessService.AccessContext access;
         try {
-            access = projectAccessService.requireAccess(id, authContext.getCurrentUserEmail());
+            access = projectAccessService.requireAccess(id, authContext.getCurrentUser());
         } catch (RuntimeException ex) {
             return accessError(ex);
         }
@@ -188,10 +214,16 @@ public class ProjectController {
             taskAssignmentRepository.deleteByTaskId(task.getId());
             commentRepository.deleteByTaskId(task.getId());
         });
+        // Entries still queued for this project would otherwise land after the delete
+        activityLogWriter.flush();
         activityLogRepository.deleteByProjectId(id);
         projectUserRepository.deleteByProjectId(id);
         taskRepository.deleteByProjectId(id);
+        projectTaskStatsService.projectDeleted(id);
         projectRepository.deleteById(id);
+        projectAccessService.evictProject(id);
+        taskSearchIndex.removeProject(id);
+        projectEvents.projectDeleted(id);
         return ResponseEntity.noContent().build();
     }
 
@@ -199,21 +231,16 @@ public class ProjectController {
     public ResponseEntity<List<ProjectMemberResponse>> getProjectMembers(@PathVariable Long id) {
         Project project;
         try {
-            project = projectAccessService.requireAccess(id, authContext.getCurrentUserEmail()).getProject();
+            project = projectAccessService.requireAccess(id, authContext.getCurrentUser()).getProject();
         } catch (RuntimeException ex) {
             return ResponseEntity.status("Not authenticated".equals(ex.getMessage())
                 ? HttpStatus.UNAUTHORIZED
                 : HttpStatus.FORBIDDEN).build();
         }
 
-        List<ProjectMemberResponse> members = projectUserRepository.findByProjectId(id)
+        List<ProjectMemberResponse> members = projectUserRepository.findWithUserByProjectId(id)
             .stream()
-            .map(pu -> new ProjectMemberResponse(
-                pu.getUser().getId(),
-                pu.getUser().getEmail(),
-                pu.getRole(),
-                pu.getJoinedAt().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME)
-            ))
+            .map(this::toMemberResponse)
             .toList();
 
         boolean hasOwner = members.stream().anyMatch(member -> member.email().equals(project.getOwner().getEmail()));
@@ -234,7 +261,7 @@ public class ProjectController {
     public ResponseEntity<?> shareProject(@PathVariable Long id, @Valid @RequestBody ShareProjectRequest request) {
         ProjectAccessService.AccessContext access;
         try {
-            access = projectAccessService.requireAccess(id, authContext.getCurrentUserEmail());
+            access = projectAccessService.requireAccess(id, authContext.getCurrentUser());
         } catch (RuntimeException ex) {
             return accessError(ex);
         }
@@ -264,6 +291,7 @@ public class ProjectController {
 
         ProjectUser projectUser = new ProjectUser(project, member, requestedRole.name());
         projectUserRepository.save(projectUser);
+        projectAccessService.evictMember(id, member.getId());
 
         ActivityLog log = new ActivityLog(
             project,
@@ -273,7 +301,7 @@ public class ProjectController {
             project.getId(),
             "Shared project with " + member.getEmail() + " as " + requestedRole.name()
         );
-        activityLogRepository.save(log);
+        activityLogWriter.record(log);
 
         // Create notification for new member
         notificationService.notify(
@@ -285,6 +313,7 @@ public class ProjectController {
             project.getId()
         );
 
+        projectEvents.memberChanged(id, toMemberResponse(projectUser));
         return ResponseEntity.status(HttpStatus.CREATED)
             .body(Map.of("message", "Project shared successfully"));
     }
@@ -293,7 +322,7 @@ public class ProjectController {
     public ResponseEntity<?> removeProjectMember(@PathVariable Long id, @PathVariable Long userId) {
         ProjectAccessService.AccessContext access;
         try {
-            access = projectAccessService.requireAccess(id, authContext.getCurrentUserEmail());
+            access = projectAccessService.requireAccess(id, authContext.getCurrentUser());
         } catch (RuntimeException ex) {
             return accessError(ex);
         }
@@ -311,6 +340,7 @@ public class ProjectController {
         }
 
         projectUserRepository.deleteByProjectIdAndUserId(id, userId);
+        projectAccessService.evictMember(id, userId);
 
         ActivityLog log = new ActivityLog(
             project,
@@ -320,7 +350,8 @@ public class ProjectController {
             project.getId(),
             "Removed member from project"
         );
-        activityLogRepository.save(log);
+        activityLogWriter.record(log);
+        projectEvents.memberRemoved(id, userId);
         return ResponseEntity.noContent().build();
     }
 
@@ -332,7 +363,7 @@ public class ProjectController {
     ) {
         ProjectAccessService.AccessContext access;
         try {
-            access = projectAccessService.requireAccess(id, authContext.getCurrentUserEmail());
+            access = projectAccessService.requireAccess(id, authContext.getCurrentUser());
         } catch (RuntimeException ex) {
             return accessError(ex);
         }
@@ -359,6 +390,7 @@ public class ProjectController {
 
         member.setRole(requestedRole.name());
         projectUserRepository.save(member);
+        projectAccessService.evictMember(id, userId);
 
         ActivityLog log = new ActivityLog(
             project,
@@ -368,8 +400,9 @@ public class ProjectController {
             project.getId(),
             "Updated member role to " + requestedRole.name()
         );
-        activityLogRepository.save(log);
+        activityLogWriter.record(log);
 
+        projectEvents.memberChanged(id, toMemberResponse(member));
         return ResponseEntity.ok(Map.of("message", "Role updated"));
     }
 }
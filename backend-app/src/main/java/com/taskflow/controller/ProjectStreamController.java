@@ -0,0 +1,67 @@
+package com.taskflow.controller;
+
+import com.taskflow.security.AuthenticatedUser;
+import com.taskflow.security.JwtUtil;
+import com.taskflow.security.ProjectAccessService;
+import com.taskflow.service.NotificationStreamService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+
+/**
+ * Live change stream for a project board. Subscribers get task, comment and member deltas as
+ * they commit, so a board can apply them instead of polling the task list.
+ */
+@RestController
+@RequestMapping("/api/projects/{projectId}")
+public class ProjectStreamController {
+
+    private final NotificationStreamService streamService;
+    private final ProjectAccessService projectAccessService;
+    private final JwtUtil jwtUtil;
+
+    public ProjectStreamController(
+        NotificationStreamService streamService,
+        ProjectAccessService projectAccessService,
+        JwtUtil jwtUtil
+    ) {
+        this.streamService = streamService;
+        this.projectAccessService = projectAccessService;
+        this.jwtUtil = jwtUtil;
+    }
+
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public void streamProject(
+        @PathVariable Long projectId,
+        @RequestParam(required = false) String token,
+        @RequestHeader(value = "Last-Event-ID", required = false) String lastEventIdHeader,
+        @RequestParam(required = false) String lastEventId,
+        HttpServletRequest request,
+        HttpServletResponse response
+    ) throws IOException {
+        AuthenticatedUser principal = token != null ? jwtUtil.verify(token) : null;
+        if (principal == null) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid token");
+        }
+
+        ProjectAccessService.AccessContext access;
+        try {
+            access = projectAccessService.requireAccess(projectId, principal);
+        } catch (RuntimeException ex) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, ex.getMessage());
+        }
+
+        Long resumeFrom = StreamRequests.resumeFrom(lastEventIdHeader, lastEventId);
+        streamService.openProjectStream(request, response, projectId, access.getUser().getId(), resumeFrom);
+    }
+}
@@ -0,0 +1,23 @@
+package com.taskflow.controller;
+
+final class StreamRequests {
+
+    private StreamRequests() {
+    }
+
+    /**
+     * The event id a stream client resumes from. Browsers send the Last-Event-ID header on
+     * automatic reconnects; the parameter covers a fresh EventSource.
+     */
+    static Long resumeFrom(String lastEventIdHeader, String lastEventIdParam) {
+        String value = lastEventIdHeader != null ? lastEventIdHeader : lastEventIdParam;
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.valueOf(value.trim());
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+}
@@ -1,8 +1,13 @@
 package com.taskflow.controller;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.springframework.http.HttpStatus;
@@ -18,6 +23,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.taskflow.dto.TaskPageResponse;
 import com.taskflow.dto.TaskRequest;
 import com.taskflow.dto.TaskResponse;
 import com.taskflow.dto.TaskAssignmentRequest;
@@ -29,13 +35,18 @@ import com.taskflow.entity.Project;
 import com.taskflow.entity.User;
 import com.taskflow.repository.ProjectRepository;
 import com.taskflow.repository.ProjectUserRepository;
+import com.taskflow.repository.TaskCursor;
+import com.taskflow.repository.TaskQuery;
 import com.taskflow.repository.TaskRepository;
 import com.taskflow.repository.TaskAssignmentRepository;
-import com.taskflow.repository.ActivityLogRepository;
 import com.taskflow.repository.UserRepository;
 import com.taskflow.security.AuthContext;
 import com.taskflow.security.ProjectAccessService;
+import com.taskflow.service.ActivityLogWriter;
 import com.taskflow.service.NotificationService;
+import com.taskflow.service.ProjectEventPublisher;
+import com.taskflow.service.ProjectTaskStatsService;
+import com.taskflow.service.TaskSearchIndex;
 
 import jakarta.validation.Valid;
 
@@ -44,14 +55,20 @@ import jakarta.validation.Valid;
 @Validated
 public class TaskController {
 
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int MAX_SEARCH_RESULTS = 5000;
+
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
     private final ProjectUserRepository projectUserRepository;
     private final TaskAssignmentRepository taskAssignmentRepository;
     private final NotificationService notificationService;
-    private final ActivityLogRepository activityLogRepository;
+    private final ActivityLogWriter activityLogWriter;
     private final AuthContext authContext;
     private final ProjectAccessService projectAccessService;
+    private final TaskSearchIndex taskSearchIndex;
+    private final ProjectTaskStatsService projectTaskStatsService;
+    private final ProjectEventPublisher projectEvents;
 
     public TaskController(
         TaskRepository taskRepository,
@@ -59,22 +76,95 @@ public class TaskController {
         ProjectUserRepository projectUserRepository,
         TaskAssignmentRepository taskAssignmentRepository,
         NotificationService notificationService,
-        ActivityLogRepository activityLogRepository,
+        ActivityLogWriter activityLogWriter,
         AuthContext authContext,
-        ProjectAccessService projectAccessService
+        ProjectAccessService projectAccessService,
+        TaskSearchIndex taskSearchIndex,
+        ProjectTaskStatsService projectTaskStatsService,
+        ProjectEventPublisher projectEvents
     ) {
         this.taskRepository = taskRepository;
         this.userRepository = userRepository;
         this.projectUserRepository = projectUserRepository;
         this.taskAssignmentRepository = taskAssignmentRepository;
         this.notificationService = notificationService;
-        this.activityLogRepository = activityLogRepository;
+        this.activityLogWriter = activityLogWriter;
         this.authContext = authContext;
         this.projectAccessService = projectAccessService;
+        this.taskSearchIndex = taskSearchIndex;
+        this.projectTaskStatsService = projectTaskStatsService;
+        this.projectEvents = projectEvents;
     }
 
     private ProjectAccessService.AccessContext getAccess(Long projectId) {
-        return projectAccessService.requireAccess(projectId, authContext.getCurrentUserEmail());
+        return projectAccessService.requireAccess(projectId, authContext.getCurrentUser());
+    }
+
+    private TaskResponse toResponse(Task task) {
+        return new TaskResponse(task.getId(), task.getTitle(), task.getDescription(), task.getStatus(), task.getPriority(), task.getDueDate());
+    }
+
+    /**
+     * Resolves a search string to ranked task ids from the index, or null when there is no search,
+     * the index is still loading, or the search matches more tasks than fit in an id list; those
+     * go to the SQL search instead.
+     */
+    private List<Long> searchTaskIds(Long projectId, String search) {
+        if (search == null || search.isBlank()) {
+            return null;
+        }
+        if (TaskSearchIndex.sqlTerms(search).isEmpty()) {
+            // Nothing to match on, which the index answers with no results too
+            return List.of();
+        }
+        if (!taskSearchIndex.isReady()) {
+            return null;
+        }
+        List<Long> matches = taskSearchIndex.search(projectId, search, MAX_SEARCH_RESULTS + 1);
+        return matches.size() > MAX_SEARCH_RESULTS ? null : matches;
+    }
+
+    /**
+     * The words for the SQL search when the index could not answer. Rows it returns are a
+     * superset of the matches, and are narrowed with {@link TaskSearchIndex#searchAmong}.
+     */
+    private static List<String> sqlSearch(String search, List<Long> matches) {
+        if (matches != null || search == null || search.isBlank()) {
+            return null;
+        }
+        return TaskSearchIndex.sqlTerms(search);
+    }
+
+    /**
+     * Runs a paged query searched in SQL, reading on past rows that fail the index's matching
+     * until a page plus one of matches is found or the rows run out.
+     */
+    private List<Task> findMatchingTasks(TaskQuery query, String search, int pageSize) {
+        List<Task> matching = new ArrayList<>();
+        TaskQuery next = query;
+        while (matching.size() <= pageSize) {
+            List<Task> rows = taskRepository.findTasks(next);
+            boolean more = rows.size() > pageSize;
+            List<Task> scanned = more ? rows.subList(0, pageSize) : rows;
+            Set<Long> matched = new HashSet<>(TaskSearchIndex.searchAmong(search, scanned));
+            scanned.stream().filter(task -> matched.contains(task.getId())).forEach(matching::add);
+            if (!more) {
+                break;
+            }
+            next = query.withAfter(TaskCursor.of(scanned.get(scanned.size() - 1), query.sortKey()));
+        }
+        return matching;
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String value, String name) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(type, value);
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Invalid " + name + ": " + value);
+        }
     }
 
     @GetMapping
@@ -86,15 +176,104 @@ public class TaskController {
     ) {
         try {
             Project project = getAccess(projectId).getProject();
-            List<TaskResponse> tasks = taskRepository.findByProject(project)
+            Task.Status statusFilter;
+            Task.Priority priorityFilter;
+            try {
+                statusFilter = parseEnum(Task.Status.class, status, "status");
+                priorityFilter = parseEnum(Task.Priority.class, priority, "priority");
+            } catch (IllegalArgumentException ex) {
+                // An unknown value matches no task here, as it always has; /page rejects it
+                return ResponseEntity.ok(List.of());
+            }
+            List<Long> matches = searchTaskIds(project.getId(), search);
+            if (matches != null && matches.isEmpty()) {
+                return ResponseEntity.ok(List.of());
+            }
+            TaskQuery query = new TaskQuery(
+                project.getId(),
+                sqlSearch(search, matches),
+                matches,
+                statusFilter,
+                priorityFilter,
+                TaskQuery.SortKey.ID,
+                false,
+                null,
+                null
+            );
+            List<Task> rows = taskRepository.findTasks(query);
+            if (matches == null && query.searchTerms() != null) {
+                matches = TaskSearchIndex.searchAmong(search, rows);
+            }
+            if (matches != null) {
+                Map<Long, Integer> rank = new HashMap<>();
+                for (int i = 0; i < matches.size(); i++) {
+                    rank.put(matches.get(i), i);
+                }
+                rows = rows.stream()
+                    .filter(t -> rank.containsKey(t.getId()))
+                    .sorted(Comparator.comparing(t -> rank.get(t.getId())))
+                    .toList();
+            }
+            List<TaskResponse> tasks = rows
                 .stream()
-                .filter(t -> search == null || t.getTitle().toLowerCase().contains(search.toLowerCase()) || 
-                    (t.getDescription() != null && t.getDescription().toLowerCase().contains(search.toLowerCase())))
-                .filter(t -> status == null || t.getStatus().toString().equals(status))
-                .filter(t -> priority == null || t.getPriority().toString().equals(priority))
-                .map(t -> new TaskResponse(t.getId(), t.getTitle(), t.getDescription(), t.getStatus(), t.getPriority(), t.getDueDate()))
+                .map(this::toResponse)
                 .collect(Collectors.toList());
             return ResponseEntity.ok(tasks);
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest()
+                .body(Map.of("error", ex.getMessage()));
+        } catch (Exception ex) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                .body(Map.of("error", ex.getMessage()));
+        }
+    }
+
+    @GetMapping("/page")
+    public ResponseEntity<?> pageTasks(
+        @PathVariable Long projectId,
+        @RequestParam(required = false) String search,
+        @RequestParam(required = false) String status,
+        @RequestParam(required = false) String priority,
+        @RequestParam(required = false) String sort,
+        @RequestParam(defaultValue = "asc") String direction,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "50") int limit
+    ) {
+        try {
+            Project project = getAccess(projectId).getProject();
+            TaskQuery.SortKey sortKey = TaskQuery.SortKey.from(sort);
+            int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+            List<Long> matches = searchTaskIds(project.getId(), search);
+            if (matches != null && matches.isEmpty()) {
+                return ResponseEntity.ok(new TaskPageResponse(List.of(), null, false));
+            }
+            TaskQuery query = new TaskQuery(
+                project.getId(),
+                sqlSearch(search, matches),
+                matches,
+                parseEnum(Task.Status.class, status, "status"),
+                parseEnum(Task.Priority.class, priority, "priority"),
+                sortKey,
+                "desc".equalsIgnoreCase(direction),
+                cursor != null && !cursor.isBlank() ? TaskCursor.decode(cursor, sortKey) : null,
+                pageSize
+            );
+
+            List<Task> rows = query.searchTerms() != null
+                ? findMatchingTasks(query, search, pageSize)
+                : taskRepository.findTasks(query);
+            boolean hasMore = rows.size() > pageSize;
+            List<Task> page = hasMore ? rows.subList(0, pageSize) : rows;
+            String nextCursor = hasMore ? TaskCursor.of(page.get(page.size() - 1), sortKey).encode() : null;
+
+            return ResponseEntity.ok(new TaskPageResponse(
+                page.stream().map(this::toResponse).toList(),
+                nextCursor,
+                hasMore
+            ));
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest()
+                .body(Map.of("error", ex.getMessage()));
         } catch (Exception ex) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN)
                 .body(Map.of("error", ex.getMessage()));
@@ -119,18 +298,23 @@ public class TaskController {
                 project
             );
             taskRepository.save(task);
+            taskSearchIndex.index(task);
+            projectTaskStatsService.taskCreated(task);
 
             ActivityLog log = new ActivityLog(
                 project,
-                userRepository.findByEmail(authContext.getCurrentUserEmail()).orElse(project.getOwner()),
+                access.getUser(),
                 "TASK_CREATED",
                 "TASK",
                 task.getId(),
                 "Created task \"" + task.getTitle() + "\""
             );
-            activityLogRepository.save(log);
+            activityLogWriter.record(log);
+
+            TaskResponse response = toResponse(task);
+            projectEvents.taskCreated(project.getId(), response);
             return ResponseEntity.status(HttpStatus.CREATED)
-                .body(new TaskResponse(task.getId(), task.getTitle(), task.getDescription(), task.getStatus(), task.getPriority(), task.getDueDate()));
+                .body(response);
         } catch (Exception ex) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN)
                 .body(Map.of("error", ex.getMessage()));
@@ -157,6 +341,9 @@ public class TaskController {
                     .body(Map.of("error", "Task does not belong to this project"));
             }
 
+            Task.Status previousStatus = task.getStatus();
+            LocalDate previousDueDate = task.getDueDate();
+
             if (request.title() != null) {
                 task.setTitle(request.title());
             }
@@ -174,17 +361,22 @@ public class TaskController {
             }
 
             taskRepository.save(task);
+            taskSearchIndex.index(task);
+            projectTaskStatsService.recordChange(projectId, previousStatus, previousDueDate, task.getStatus(), task.getDueDate());
 
             ActivityLog log = new ActivityLog(
                 task.getProject(),
-                userRepository.findByEmail(authContext.getCurrentUserEmail()).orElse(task.getProject().getOwner()),
+                access.getUser(),
                 "TASK_UPDATED",
                 "TASK",
                 task.getId(),
                 "Updated task \"" + task.getTitle() + "\""
             );
-            activityLogRepository.save(log);
-            return ResponseEntity.ok(new TaskResponse(task.getId(), task.getTitle(), task.getDescription(), task.getStatus(), task.getPriority(), task.getDueDate()));
+            activityLogWriter.record(log);
+
+            TaskResponse response = toResponse(task);
+            projectEvents.taskUpdated(projectId, response);
+            return ResponseEntity.ok(response);
         } catch (Exception ex) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN)
                 .body(Map.of("error", ex.getMessage()));
@@ -208,16 +400,19 @@ public class TaskController {
             }
 
             taskRepository.deleteById(taskId);
+            taskSearchIndex.remove(projectId, taskId);
+            projectTaskStatsService.taskDeleted(task);
 
             ActivityLog log = new ActivityLog(
                 task.getProject(),
-                userRepository.findByEmail(authContext.getCurrentUserEmail()).orElse(task.getProject().getOwner()),
+                access.getUser(),
                 "TASK_DELETED",
                 "TASK",
                 task.getId(),
                 "Deleted task \"" + task.getTitle() + "\""
             );
-            activityLogRepository.save(log);
+            activityLogWriter.record(log);
+            projectEvents.taskDeleted(projectId, taskId);
             return ResponseEntity.noContent().build();
         } catch (Exception ex) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN)
@@ -232,7 +427,7 @@ public class TaskController {
             Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new RuntimeException("Task not found"));
 
-            List<TaskAssigneeResponse> assignees = taskAssignmentRepository.findByTaskId(taskId)
+            List<TaskAssigneeResponse> assignees = taskAssignmentRepository.findWithAssigneeByTaskId(taskId)
                 .stream()
                 .map(ta -> new TaskAssigneeResponse(ta.getAssignedTo().getId(), ta.getAssignedTo().getEmail()))
                 .toList();
@@ -276,13 +471,13 @@ public class TaskController {
             // Create activity log
             ActivityLog log = new ActivityLog(
                 task.getProject(),
-                userRepository.findByEmail(authContext.getCurrentUserEmail()).orElse(null),
+                access.getUser(),
                 "TASK_ASSIGNED",
                 "TASK",
                 task.getId(),
                 "Assigned task to " + assignee.getEmail()
             );
-            activityLogRepository.save(log);
+            activityLogWriter.record(log);
 
             // Create notification
             notificationService.notify(
@@ -294,6 +489,7 @@ public class TaskController {
                 task.getId()
             );
 
+            projectEvents.taskAssigned(projectId, taskId, new TaskAssigneeResponse(assignee.getId(), assignee.getEmail()));
             return ResponseEntity.status(HttpStatus.CREATED)
                 .body(Map.of("message", "Task assigned successfully"));
         } catch (Exception ex) {
@@ -314,13 +510,14 @@ public class TaskController {
 
             ActivityLog log = new ActivityLog(
                 taskRepository.findById(taskId).map(Task::getProject).orElse(null),
-                userRepository.findByEmail(authContext.getCurrentUserEmail()).orElse(null),
+                access.getUser(),
                 "TASK_UNASSIGNED",
                 "TASK",
                 taskId,
                 "Removed assignee from task"
             );
-            activityLogRepository.save(log);
+            activityLogWriter.record(log);
+            projectEvents.taskUnassigned(projectId, taskId, userId);
             return ResponseEntity.noContent().build();
         } catch (Exception ex) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN)
@@ -0,0 +1,214 @@
+package com.taskflow.controller;
+
+import java.util.Map;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.taskflow.dto.FileAttachmentResponse;
+import com.taskflow.dto.UploadCompleteRequest;
+import com.taskflow.dto.UploadInitRequest;
+import com.taskflow.dto.UploadSessionResponse;
+import com.taskflow.entity.Comment;
+import com.taskflow.entity.FileAttachment;
+import com.taskflow.entity.Task;
+import com.taskflow.entity.UploadSession;
+import com.taskflow.repository.CommentRepository;
+import com.taskflow.repository.TaskRepository;
+import com.taskflow.security.AuthContext;
+import com.taskflow.security.ProjectAccessService;
+import com.taskflow.service.ChunkedUploadService;
+import com.taskflow.service.ThumbnailService;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Resumable attachment uploads: start a session, PUT raw chunks at the current offset, then
+ * complete with the file's SHA-256. After a failed chunk, GET the session for the offset to
+ * resume from.
+ */
+@RestController
+@RequestMapping("/api/projects/{projectId}/tasks/{taskId}/uploads")
+public class UploadSessionController {
+
+    private final ChunkedUploadService chunkedUploadService;
+    private final TaskRepository taskRepository;
+    private final CommentRepository commentRepository;
+    private final AuthContext authContext;
+    private final ProjectAccessService projectAccessService;
+    private final ThumbnailService thumbnailService;
+
+    public UploadSessionController(
+        ChunkedUploadService chunkedUploadService,
+        TaskRepository taskRepository,
+        CommentRepository commentRepository,
+        AuthContext authContext,
+        ProjectAccessService projectAccessService,
+        ThumbnailService thumbnailService
+    ) {
+        this.chunkedUploadService = chunkedUploadService;
+        this.taskRepository = taskRepository;
+        this.commentRepository = commentRepository;
+        this.authContext = authContext;
+        this.projectAccessService = projectAccessService;
+        this.thumbnailService = thumbnailService;
+    }
+
+    private ProjectAccessService.AccessContext getAccess(Long projectId) {
+        return projectAccessService.requireAccess(projectId, authContext.getCurrentUser());
+    }
+
+    private UploadSession getSession(Long projectId, Long taskId, String uploadId) {
+        ProjectAccessService.AccessContext access = getAccess(projectId);
+        return chunkedUploadService.getSession(uploadId, access.getUser().getId(), projectId, taskId);
+    }
+
+    private UploadSessionResponse toResponse(UploadSession session, long offset) {
+        return new UploadSessionResponse(session.getId(), offset, session.getTotalSize(), chunkedUploadService.getMaxChunkBytes());
+    }
+
+    @PostMapping
+    public ResponseEntity<?> startUpload(
+        @PathVariable Long projectId,
+        @PathVariable Long taskId,
+        @RequestBody UploadInitRequest request
+    ) {
+        try {
+            ProjectAccessService.AccessContext access = getAccess(projectId);
+            Task task = taskRepository.findById(taskId)
+                .orElseThrow(() -> new RuntimeException("Task not found"));
+            if (!task.getProject().getId().equals(projectId)) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(Map.of("error", "Task does not belong to this project"));
+            }
+
+            Comment comment = null;
+            if (request.commentId() != null) {
+                comment = commentRepository.findById(request.commentId())
+                    .orElseThrow(() -> new RuntimeException("Comment not found"));
+                if (!comment.getTask().getId().equals(taskId)) {
+                    return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                        .body(Map.of("error", "Comment does not belong to this task"));
+                }
+            }
+
+            UploadSession session = chunkedUploadService.start(
+                access.getUser(), task, comment, request.fileName(), request.fileType(), request.totalSize());
+            return ResponseEntity.status(HttpStatus.CREATED)
+                .body(toResponse(session, 0));
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest()
+                .body(Map.of("error", ex.getMessage()));
+        } catch (Exception ex) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                .body(Map.of("error", ex.getMessage()));
+        }
+    }
+
+    @GetMapping("/{uploadId}")
+    public ResponseEntity<?> getUpload(
+        @PathVariable Long projectId,
+        @PathVariable Long taskId,
+        @PathVariable String uploadId
+    ) {
+        try {
+            UploadSession session = getSession(projectId, taskId, uploadId);
+            return ResponseEntity.ok(toResponse(session, chunkedUploadService.offset(session)));
+        } catch (Exception ex) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                .body(Map.of("error", ex.getMessage()));
+        }
+    }
+
+    @PutMapping("/{uploadId}")
+    public ResponseEntity<?> putChunk(
+        @PathVariable Long projectId,
+        @PathVariable Long taskId,
+        @PathVariable String uploadId,
+        @RequestParam long offset,
+        HttpServletRequest request
+    ) {
+        UploadSession session;
+        try {
+            session = getSession(projectId, taskId, uploadId);
+        } catch (Exception ex) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                .body(Map.of("error", ex.getMessage()));
+        }
+
+        try {
+            long newOffset = chunkedUploadService.append(session, offset, request.getInputStream());
+            return ResponseEntity.ok(toResponse(session, newOffset));
+        } catch (IllegalStateException ex) {
+            return conflict(session, ex);
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest()
+                .body(Map.of("error", ex.getMessage()));
+        } catch (Exception ex) {
+            // Whatever arrived before the failure is kept; the client resumes from the session offset
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Map.of("error", "Chunk upload failed: " + ex.getMessage()));
+        }
+    }
+
+    @PostMapping("/{uploadId}/complete")
+    public ResponseEntity<?> completeUpload(
+        @PathVariable Long projectId,
+        @PathVariable Long taskId,
+        @PathVariable String uploadId,
+        @RequestBody UploadCompleteRequest request
+    ) {
+        try {
+            ProjectAccessService.AccessContext access = getAccess(projectId);
+            UploadSession session = chunkedUploadService.getSession(uploadId, access.getUser().getId(), projectId, taskId);
+            try {
+                FileAttachment attachment = chunkedUploadService.complete(session, request.sha256(), access.getUser());
+                thumbnailService.requestThumbnail(attachment);
+                return ResponseEntity.status(HttpStatus.CREATED)
+                    .body(FileAttachmentResponse.from(attachment));
+            } catch (IllegalStateException ex) {
+                return conflict(session, ex);
+            } catch (IllegalArgumentException ex) {
+                return ResponseEntity.badRequest()
+                    .body(Map.of("error", ex.getMessage()));
+            }
+        } catch (Exception ex) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                .body(Map.of("error", ex.getMessage()));
+        }
+    }
+
+    @DeleteMapping("/{uploadId}")
+    public ResponseEntity<?> abortUpload(
+        @PathVariable Long projectId,
+        @PathVariable Long taskId,
+        @PathVariable String uploadId
+    ) {
+        try {
+            chunkedUploadService.abort(getSession(projectId, taskId, uploadId));
+            return ResponseEntity.noContent().build();
+        } catch (Exception ex) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                .body(Map.of("error", ex.getMessage()));
+        }
+    }
+
+    private ResponseEntity<?> conflict(UploadSession session, IllegalStateException ex) {
+        try {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(Map.of("error", ex.getMessage(), "offset", chunkedUploadService.offset(session)));
+        } catch (Exception offsetError) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(Map.of("error", ex.getMessage()));
+        }
+    }
+}
@@ -6,6 +6,7 @@ import com.taskflow.repository.ProjectUserRepository;
 import com.taskflow.repository.TaskAssignmentRepository;
 import com.taskflow.repository.UserRepository;
 import com.taskflow.security.AuthContext;
+import com.taskflow.security.AuthenticatedUser;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
@@ -34,16 +35,14 @@ public class UserController {
 
     @GetMapping("/profile")
     public ResponseEntity<UserProfileResponse> getProfile() {
-        String email = authContext.getCurrentUserEmail();
-        User user = userRepository.findByEmail(email)
-            .orElseThrow(() -> new RuntimeException("User not found"));
+        AuthenticatedUser principal = authContext.getCurrentUser();
 
-        Integer projectCount = projectUserRepository.findByUserId(user.getId()).size();
-        Integer taskCount = taskAssignmentRepository.findByAssignedToId(user.getId()).size();
+        Integer projectCount = projectUserRepository.findByUserId(principal.id()).size();
+        Integer taskCount = taskAssignmentRepository.findByAssignedToId(principal.id()).size();
 
         return ResponseEntity.ok(new UserProfileResponse(
-            user.getId(),
-            user.getEmail(),
+            principal.id(),
+            principal.email(),
             projectCount,
             taskCount
         ));
@@ -0,0 +1,10 @@
+package com.taskflow.dto;
+
+import java.util.List;
+
+public record ActivityPageResponse(
+    List<ActivityLogResponse> items,
+    String nextCursor,
+    boolean hasMore
+) {
+}
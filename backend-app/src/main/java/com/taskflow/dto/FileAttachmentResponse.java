@@ -1,5 +1,7 @@
 package com.taskflow.dto;
 
+import com.taskflow.entity.FileAttachment;
+
 import java.time.LocalDateTime;
 
 public class FileAttachmentResponse {
@@ -10,9 +12,11 @@ public class FileAttachmentResponse {
     private LocalDateTime uploadedAt;
     private String uploadedByName;
     private String uploadedByEmail;
+    private boolean thumbnailAvailable;
 
     public FileAttachmentResponse(Long id, String fileName, String fileType, Long fileSize,
-                                  LocalDateTime uploadedAt, String uploadedByName, String uploadedByEmail) {
+                                  LocalDateTime uploadedAt, String uploadedByName, String uploadedByEmail,
+                                  boolean thumbnailAvailable) {
         this.id = id;
         this.fileName = fileName;
         this.fileType = fileType;
@@ -20,6 +24,20 @@ public class FileAttachmentResponse {
         this.uploadedAt = uploadedAt;
         this.uploadedByName = uploadedByName;
         this.uploadedByEmail = uploadedByEmail;
+        this.thumbnailAvailable = thumbnailAvailable;
+    }
+
+    public static FileAttachmentResponse from(FileAttachment attachment) {
+        return new FileAttachmentResponse(
+                attachment.getId(),
+                attachment.getFileName(),
+                attachment.getFileType(),
+                attachment.getFileSize(),
+                attachment.getUploadedAt(),
+                attachment.getUploadedBy().getEmail(),
+                attachment.getUploadedBy().getEmail(),
+                attachment.isThumbnailAvailable()
+        );
     }
 
     // Getters
@@ -50,4 +68,8 @@ public class FileAttachmentResponse {
     public String getUploadedByEmail() {
         return uploadedByEmail;
     }
+
+    public boolean isThumbnailAvailable() {
+        return thumbnailAvailable;
+    }
 }
@@ -0,0 +1,7 @@
+package com.taskflow.dto;
+
+public record NotificationBulkResponse(
+    int affected,
+    int unreadCount
+) {
+}
@@ -0,0 +1,8 @@
+package com.taskflow.dto;
+
+import java.util.List;
+
+public record NotificationIdsRequest(
+    List<Long> ids
+) {
+}
@@ -0,0 +1,10 @@
+package com.taskflow.dto;
+
+import java.util.List;
+
+public record TaskPageResponse(
+    List<TaskResponse> items,
+    String nextCursor,
+    boolean hasMore
+) {
+}
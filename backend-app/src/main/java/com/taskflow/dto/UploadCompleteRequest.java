@@ -0,0 +1,6 @@
+package com.taskflow.dto;
+
+public record UploadCompleteRequest(
+    String sha256
+) {
+}
@@ -0,0 +1,9 @@
+package com.taskflow.dto;
+
+public record UploadInitRequest(
+    String fileName,
+    String fileType,
+    Long totalSize,
+    Long commentId
+) {
+}
@@ -0,0 +1,9 @@
+package com.taskflow.dto;
+
+public record UploadSessionResponse(
+    String id,
+    long offset,
+    long totalSize,
+    long maxChunkSize
+) {
+}
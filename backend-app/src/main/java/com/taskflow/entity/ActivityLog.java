@@ -4,7 +4,10 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "activity_logs")
+@Table(
+    name = "activity_logs",
+    indexes = @Index(name = "idx_activity_logs_project_created", columnList = "project_id, created_at, id")
+)
 public class ActivityLog {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -5,6 +5,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -14,7 +15,10 @@ import java.util.List;
 import java.util.ArrayList;
 
 @Entity
-@Table(name = "comment")
+@Table(
+    name = "comment",
+    indexes = @Index(name = "idx_comment_task_created", columnList = "task_id, created_at")
+)
 public class Comment {
 
     @Id
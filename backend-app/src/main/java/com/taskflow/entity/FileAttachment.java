@@ -7,7 +7,14 @@ import com.taskflow.entity.Comment;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "file_attachments")
+@Table(
+    name = "file_attachments",
+    indexes = {
+        @Index(name = "idx_file_attachments_task", columnList = "task_id"),
+        @Index(name = "idx_file_attachments_comment", columnList = "comment_id"),
+        @Index(name = "idx_file_attachments_storage_path", columnList = "storage_path")
+    }
+)
 public class FileAttachment {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -28,6 +35,9 @@ public class FileAttachment {
     @Column(nullable = false)
     private LocalDateTime uploadedAt;
 
+    @Column(name = "thumbnail_available", nullable = false)
+    private boolean thumbnailAvailable;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "uploaded_by_id")
     private User uploadedBy;
@@ -102,6 +112,14 @@ public class FileAttachment {
         this.uploadedAt = uploadedAt;
     }
 
+    public boolean isThumbnailAvailable() {
+        return thumbnailAvailable;
+    }
+
+    public void setThumbnailAvailable(boolean thumbnailAvailable) {
+        this.thumbnailAvailable = thumbnailAvailable;
+    }
+
     public User getUploadedBy() {
         return uploadedBy;
     }
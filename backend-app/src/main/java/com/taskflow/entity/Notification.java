@@ -4,7 +4,10 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "notifications")
+@Table(
+    name = "notifications",
+    indexes = @Index(name = "idx_notifications_user_read_created", columnList = "user_id, is_read, created_at")
+)
 public class Notification {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
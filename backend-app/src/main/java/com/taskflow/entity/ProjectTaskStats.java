@@ -0,0 +1,94 @@
+package com.taskflow.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDate;
+
+@Entity
+@Table(name = "project_task_stats")
+public class ProjectTaskStats {
+
+    @Id
+    @Column(name = "project_id")
+    private Long projectId;
+
+    @Column(nullable = false)
+    private long total;
+
+    @Column(nullable = false)
+    private long todo;
+
+    @Column(name = "in_progress", nullable = false)
+    private long inProgress;
+
+    @Column(nullable = false)
+    private long done;
+
+    @Column(nullable = false)
+    private long overdue;
+
+    @Column(name = "overdue_as_of", nullable = false)
+    private LocalDate overdueAsOf;
+
+    protected ProjectTaskStats() {
+    }
+
+    public ProjectTaskStats(Long projectId, LocalDate overdueAsOf) {
+        this.projectId = projectId;
+        this.overdueAsOf = overdueAsOf;
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public long getTodo() {
+        return todo;
+    }
+
+    public void setTodo(long todo) {
+        this.todo = todo;
+    }
+
+    public long getInProgress() {
+        return inProgress;
+    }
+
+    public void setInProgress(long inProgress) {
+        this.inProgress = inProgress;
+    }
+
+    public long getDone() {
+        return done;
+    }
+
+    public void setDone(long done) {
+        this.done = done;
+    }
+
+    public long getOverdue() {
+        return overdue;
+    }
+
+    public void setOverdue(long overdue) {
+        this.overdue = overdue;
+    }
+
+    public LocalDate getOverdueAsOf() {
+        return overdueAsOf;
+    }
+
+    public void setOverdueAsOf(LocalDate overdueAsOf) {
+        this.overdueAsOf = overdueAsOf;
+    }
+}
@@ -4,7 +4,11 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "project_users")
+@Table(
+    name = "project_users",
+    uniqueConstraints = @UniqueConstraint(name = "uk_project_users_project_user", columnNames = {"project_id", "user_id"}),
+    indexes = @Index(name = "idx_project_users_user", columnList = "user_id")
+)
 public class ProjectUser {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -7,6 +7,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -16,7 +17,10 @@ import java.util.List;
 import java.util.ArrayList;
 
 @Entity
-@Table(name = "task")
+@Table(
+    name = "task",
+    indexes = @Index(name = "idx_task_project", columnList = "project_id, id")
+)
 public class Task {
 
     public enum Status {
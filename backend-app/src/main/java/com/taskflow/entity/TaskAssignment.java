@@ -4,7 +4,11 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "task_assignments")
+@Table(
+    name = "task_assignments",
+    uniqueConstraints = @UniqueConstraint(name = "uk_task_assignments_task_user", columnNames = {"task_id", "user_id"}),
+    indexes = @Index(name = "idx_task_assignments_user", columnList = "user_id")
+)
 public class TaskAssignment {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
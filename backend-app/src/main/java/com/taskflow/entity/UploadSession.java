@@ -0,0 +1,129 @@
+package com.taskflow.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+
+/**
+ * A chunked upload in progress. The bytes received so far live in the session's part file;
+ * its length is the offset the next chunk must start at. The session expires once no chunk
+ * has arrived for a while. A completed session keeps the id of
+ * the attachment it created until it expires, so a retried completion gets the same answer.
+ */
+@Entity
+@Table(
+    name = "upload_sessions",
+    indexes = @Index(name = "idx_upload_sessions_last_chunk", columnList = "last_chunk_at")
+)
+public class UploadSession {
+
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(name = "task_id", nullable = false)
+    private Long taskId;
+
+    @Column(name = "comment_id")
+    private Long commentId;
+
+    @Column(name = "file_name", nullable = false)
+    private String fileName;
+
+    @Column(name = "file_type", nullable = false)
+    private String fileType;
+
+    @Column(name = "total_size", nullable = false)
+    private long totalSize;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "last_chunk_at", nullable = false)
+    private LocalDateTime lastChunkAt;
+
+    @Column(name = "attachment_id")
+    private Long attachmentId;
+
+    protected UploadSession() {
+    }
+
+    public UploadSession(
+        String id,
+        Long userId,
+        Long projectId,
+        Long taskId,
+        Long commentId,
+        String fileName,
+        String fileType,
+        long totalSize
+    ) {
+        this.id = id;
+        this.userId = userId;
+        this.projectId = projectId;
+        this.taskId = taskId;
+        this.commentId = commentId;
+        this.fileName = fileName;
+        this.fileType = fileType;
+        this.totalSize = totalSize;
+        this.createdAt = LocalDateTime.now();
+        this.lastChunkAt = createdAt;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public Long getCommentId() {
+        return commentId;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public String getFileType() {
+        return fileType;
+    }
+
+    public long getTotalSize() {
+        return totalSize;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getLastChunkAt() {
+        return lastChunkAt;
+    }
+
+    public Long getAttachmentId() {
+        return attachmentId;
+    }
+
+    public void setAttachmentId(Long attachmentId) {
+        this.attachmentId = attachmentId;
+    }
+}
@@ -0,0 +1,33 @@
+package com.taskflow.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import com.taskflow.entity.ActivityLog;
+
+/**
+ * Opaque keyset position: creation time and id of the last activity entry on a page.
+ */
+public record ActivityCursor(LocalDateTime createdAt, Long id) {
+
+    public static ActivityCursor of(ActivityLog log) {
+        return new ActivityCursor(log.getCreatedAt(), log.getId());
+    }
+
+    public String encode() {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ActivityCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 2);
+            return new ActivityCursor(LocalDateTime.parse(parts[0]), Long.valueOf(parts[1]));
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException | DateTimeException ex) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
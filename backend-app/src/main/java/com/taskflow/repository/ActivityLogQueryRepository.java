@@ -0,0 +1,15 @@
+package com.taskflow.repository;
+
+import java.util.List;
+
+import com.taskflow.entity.ActivityLog;
+
+public interface ActivityLogQueryRepository {
+
+    /**
+     * Returns a project's activity newest first, starting after {@code after} when given,
+     * with the acting user fetched in the same query. Up to {@code limit + 1} rows are
+     * returned so callers can tell whether another page exists.
+     */
+    List<ActivityLog> findPage(Long projectId, String action, String entityType, ActivityCursor after, int limit);
+}
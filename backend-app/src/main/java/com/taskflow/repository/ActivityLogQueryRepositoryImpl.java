@@ -0,0 +1,56 @@
+package com.taskflow.repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.util.StringUtils;
+
+import com.taskflow.entity.ActivityLog;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+public class ActivityLogQueryRepositoryImpl implements ActivityLogQueryRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<ActivityLog> findPage(Long projectId, String action, String entityType, ActivityCursor after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ActivityLog> criteria = cb.createQuery(ActivityLog.class);
+        Root<ActivityLog> log = criteria.from(ActivityLog.class);
+        log.fetch("user");
+        Path<LocalDateTime> createdAt = log.get("createdAt");
+        Path<Long> id = log.get("id");
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.equal(log.get("project").get("id"), projectId));
+        if (StringUtils.hasText(action)) {
+            predicates.add(cb.equal(log.get("action"), action));
+        }
+        if (StringUtils.hasText(entityType)) {
+            predicates.add(cb.equal(log.get("entityType"), entityType));
+        }
+        if (after != null) {
+            predicates.add(cb.or(
+                cb.lessThan(createdAt, after.createdAt()),
+                cb.and(cb.equal(createdAt, after.createdAt()), cb.lessThan(id, after.id()))
+            ));
+        }
+
+        criteria.select(log)
+            .where(predicates.toArray(new Predicate[0]))
+            .orderBy(cb.desc(createdAt), cb.desc(id));
+
+        return entityManager.createQuery(criteria)
+            .setMaxResults(limit + 1)
+            .getResultList();
+    }
+}
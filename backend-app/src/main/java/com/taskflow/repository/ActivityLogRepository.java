@@ -6,7 +6,7 @@ import org.springframework.stereotype.Repository;
 import java.util.List;
 
 @Repository
-public interface ActivityLogRepository extends JpaRepository<ActivityLog, Long> {
+public interface ActivityLogRepository extends JpaRepository<ActivityLog, Long>, ActivityLogQueryRepository {
     List<ActivityLog> findByProjectId(Long projectId);
     List<ActivityLog> findByProjectIdOrderByCreatedAtDesc(Long projectId);
     List<ActivityLog> findByUserId(Long userId);
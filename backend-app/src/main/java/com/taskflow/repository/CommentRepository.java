@@ -2,6 +2,7 @@ package com.taskflow.repository;
 
 import java.util.List;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import com.taskflow.entity.Comment;
@@ -9,5 +10,8 @@ import com.taskflow.entity.Task;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
     List<Comment> findByTaskOrderByCreatedAtDesc(Task task);
+
+    @EntityGraph(attributePaths = "author")
+    List<Comment> findWithAuthorByTaskIdOrderByCreatedAtDesc(Long taskId);
     void deleteByTaskId(Long taskId);
 }
@@ -1,7 +1,13 @@
 package com.taskflow.repository;
 
 import com.taskflow.entity.FileAttachment;
+import jakarta.transaction.Transactional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -9,8 +15,29 @@ import java.util.Optional;
 
 @Repository
 public interface FileAttachmentRepository extends JpaRepository<FileAttachment, Long> {
+    @EntityGraph(attributePaths = "uploadedBy")
     List<FileAttachment> findByTaskId(Long taskId);
+
+    @EntityGraph(attributePaths = "uploadedBy")
     List<FileAttachment> findByCommentId(Long commentId);
     Optional<FileAttachment> findByIdAndTaskId(Long id, Long taskId);
     Optional<FileAttachment> findByIdAndCommentId(Long id, Long commentId);
+
+    long countByStoragePath(String storagePath);
+
+    List<FileAttachment> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    List<FileAttachment> findByIdGreaterThanAndFileTypeStartingWithAndThumbnailAvailableFalseOrderByIdAsc(
+        Long id, String fileTypePrefix, Pageable pageable);
+
+    // The preview is keyed by storage path, so a new path starts without one
+    @Transactional
+    @Modifying
+    @Query("update FileAttachment f set f.storagePath = :newPath, f.thumbnailAvailable = false where f.storagePath = :oldPath")
+    int updateStoragePath(@Param("oldPath") String oldPath, @Param("newPath") String newPath);
+
+    @Transactional
+    @Modifying
+    @Query("update FileAttachment f set f.thumbnailAvailable = true where f.storagePath = :storagePath and f.thumbnailAvailable = false")
+    int markThumbnailAvailable(@Param("storagePath") String storagePath);
 }
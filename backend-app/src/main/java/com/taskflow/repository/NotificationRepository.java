@@ -1,8 +1,14 @@
 package com.taskflow.repository;
 
 import com.taskflow.entity.Notification;
+import jakarta.transaction.Transactional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -10,4 +16,47 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     List<Notification> findByUserIdOrderByCreatedAtDesc(Long userId);
     List<Notification> findByUserIdAndIsReadFalseOrderByCreatedAtDesc(Long userId);
     int countByUserIdAndIsReadFalse(Long userId);
+
+    @Query("""
+        select n.user.id as userId, count(n) as unread
+        from Notification n
+        where n.user.id in :userIds and n.isRead = false
+        group by n.user.id
+        """)
+    List<UnreadCount> countUnreadByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    @Transactional
+    @Modifying
+    @Query("update Notification n set n.isRead = true where n.user.id = :userId and n.isRead = false")
+    int markAllRead(@Param("userId") Long userId);
+
+    @Transactional
+    @Modifying
+    @Query("""
+        update Notification n set n.isRead = true
+        where n.user.id = :userId and n.isRead = false and n.id in :ids
+        """)
+    int markRead(@Param("userId") Long userId, @Param("ids") Collection<Long> ids);
+
+    @Transactional
+    @Modifying
+    @Query("""
+        update Notification n set n.isRead = true
+        where n.user.id = :userId and n.isRead = false and n.createdAt <= :before
+        """)
+    int markReadUpTo(@Param("userId") Long userId, @Param("before") LocalDateTime before);
+
+    @Transactional
+    @Modifying
+    @Query("""
+        delete from Notification n
+        where n.user.id = :userId and n.isRead = true and n.createdAt < :cutoff
+        """)
+    int deleteReadBefore(@Param("userId") Long userId, @Param("cutoff") LocalDateTime cutoff);
+
+    interface UnreadCount {
+        Long getUserId();
+
+        Long getUnread();
+    }
 }
@@ -2,11 +2,22 @@ package com.taskflow.repository;
 
 import java.util.List;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.taskflow.entity.Project;
 import com.taskflow.entity.User;
 
 public interface ProjectRepository extends JpaRepository<Project, Long> {
+    @EntityGraph(attributePaths = "owner")
     List<Project> findByOwner(User owner);
+
+    @Query("""
+        select count(p) from Project p
+        where p.owner.id = :userId
+           or p.id in (select pu.project.id from ProjectUser pu where pu.user.id = :userId)
+        """)
+    long countAccessibleByUserId(@Param("userId") Long userId);
 }
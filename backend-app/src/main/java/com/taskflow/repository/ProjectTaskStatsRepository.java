@@ -0,0 +1,102 @@
+package com.taskflow.repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.taskflow.entity.ProjectTaskStats;
+import com.taskflow.entity.Task;
+
+public interface ProjectTaskStatsRepository extends JpaRepository<ProjectTaskStats, Long> {
+
+    interface Totals {
+        Long getTotal();
+        Long getDone();
+        Long getOverdue();
+    }
+
+    @Modifying
+    @Query("""
+        update ProjectTaskStats s
+        set s.total = s.total + :total,
+            s.todo = s.todo + :todo,
+            s.inProgress = s.inProgress + :inProgress,
+            s.done = s.done + :done,
+            s.overdue = s.overdue + :overdue
+        where s.projectId = :projectId
+        """)
+    int applyDelta(
+        @Param("projectId") Long projectId,
+        @Param("total") long total,
+        @Param("todo") long todo,
+        @Param("inProgress") long inProgress,
+        @Param("done") long done,
+        @Param("overdue") long overdue
+    );
+
+    @Modifying
+    @Query("""
+        update ProjectTaskStats s
+        set s.overdue = (
+                select count(t) from Task t
+                where t.project.id = s.projectId and t.dueDate < :today and t.status <> :done
+            ),
+            s.overdueAsOf = :today
+        where s.overdueAsOf < :today
+        """)
+    int rollOverdue(@Param("today") LocalDate today, @Param("done") Task.Status done);
+
+    @Modifying
+    @Query("""
+        insert into ProjectTaskStats (projectId, total, todo, inProgress, done, overdue, overdueAsOf)
+        select p.id, 0, 0, 0, 0, 0, :today from Project p
+        where not exists (select 1 from ProjectTaskStats s where s.projectId = p.id)
+        """)
+    int insertMissing(@Param("today") LocalDate today);
+
+    @Query("select s.projectId from ProjectTaskStats s where s.projectId > :after order by s.projectId")
+    List<Long> findProjectIdsAfter(@Param("after") Long after, Pageable pageable);
+
+    /**
+     * Recounts the given projects' counters from the task table in one statement, so deltas
+     * committed while it runs are not overwritten by counts read before them. Locks only
+     * those projects' rows.
+     */
+    @Modifying
+    @Query("""
+        update ProjectTaskStats s
+        set s.total = (select count(t) from Task t where t.project.id = s.projectId),
+            s.todo = (select count(t) from Task t where t.project.id = s.projectId and t.status = :todo),
+            s.inProgress = (select count(t) from Task t where t.project.id = s.projectId and t.status = :inProgress),
+            s.done = (select count(t) from Task t where t.project.id = s.projectId and t.status = :done),
+            s.overdue = (
+                select count(t) from Task t
+                where t.project.id = s.projectId and t.dueDate < :today and t.status <> :done
+            ),
+            s.overdueAsOf = :today
+        where s.projectId in :projectIds
+        """)
+    int recount(
+        @Param("projectIds") Collection<Long> projectIds,
+        @Param("today") LocalDate today,
+        @Param("todo") Task.Status todo,
+        @Param("inProgress") Task.Status inProgress,
+        @Param("done") Task.Status done
+    );
+
+    @Query("""
+        select coalesce(sum(s.total), 0) as total,
+               coalesce(sum(s.done), 0) as done,
+               coalesce(sum(s.overdue), 0) as overdue
+        from ProjectTaskStats s
+        where s.projectId in (select p.id from Project p where p.owner.id = :userId)
+           or s.projectId in (select pu.project.id from ProjectUser pu where pu.user.id = :userId)
+        """)
+    Totals sumForUser(@Param("userId") Long userId);
+}
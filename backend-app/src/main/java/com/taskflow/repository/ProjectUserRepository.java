@@ -1,6 +1,7 @@
 package com.taskflow.repository;
 
 import com.taskflow.entity.ProjectUser;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 import java.util.List;
@@ -10,6 +11,12 @@ import java.util.Optional;
 public interface ProjectUserRepository extends JpaRepository<ProjectUser, Long> {
     List<ProjectUser> findByProjectId(Long projectId);
     List<ProjectUser> findByUserId(Long userId);
+
+    @EntityGraph(attributePaths = "user")
+    List<ProjectUser> findWithUserByProjectId(Long projectId);
+
+    @EntityGraph(attributePaths = {"project", "project.owner"})
+    List<ProjectUser> findWithProjectByUserId(Long userId);
     Optional<ProjectUser> findByProjectIdAndUserId(Long projectId, Long userId);
     void deleteByProjectIdAndUserId(Long projectId, Long userId);
     void deleteByProjectId(Long projectId);
@@ -0,0 +1,41 @@
+package com.taskflow.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.util.Base64;
+
+import com.taskflow.entity.Task;
+
+/**
+ * Opaque keyset position: the sort key value and id of the last task on a page.
+ */
+public record TaskCursor(TaskQuery.SortKey sortKey, String sortValue, Long id) {
+
+    public static TaskCursor of(Task task, TaskQuery.SortKey sortKey) {
+        return new TaskCursor(sortKey, TaskQuery.sortValue(task, sortKey), task.getId());
+    }
+
+    public String encode() {
+        String raw = sortKey.name() + "|" + sortValue + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TaskCursor decode(String cursor, TaskQuery.SortKey expectedSortKey) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 3);
+            TaskQuery.SortKey sortKey = TaskQuery.SortKey.valueOf(parts[0]);
+            if (sortKey != expectedSortKey) {
+                throw new IllegalArgumentException("Cursor does not match sort");
+            }
+            sortKey.parse(parts[1]);
+            return new TaskCursor(sortKey, parts[1], Long.valueOf(parts[2]));
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException | DateTimeException ex) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    public Comparable<?> value() {
+        return sortKey.parse(sortValue);
+    }
+}
@@ -0,0 +1,76 @@
+package com.taskflow.repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+import com.taskflow.entity.Task;
+
+public record TaskQuery(
+    Long projectId,
+    // Lowercase words that must each appear in the title or description; null for no search
+    List<String> searchTerms,
+    Collection<Long> taskIds,
+    Task.Status status,
+    Task.Priority priority,
+    SortKey sortKey,
+    boolean descending,
+    TaskCursor after,
+    Integer limit
+) {
+
+    public TaskQuery withAfter(TaskCursor cursor) {
+        return new TaskQuery(projectId, searchTerms, taskIds, status, priority, sortKey, descending, cursor, limit);
+    }
+
+    public enum SortKey {
+        ID,
+        DUE_DATE,
+        PRIORITY;
+
+        public static SortKey from(String value) {
+            if (value == null || value.isBlank()) {
+                return ID;
+            }
+            return switch (value.trim().toLowerCase(Locale.ROOT)) {
+                case "id" -> ID;
+                case "duedate", "due_date" -> DUE_DATE;
+                case "priority" -> PRIORITY;
+                default -> throw new IllegalArgumentException("Invalid sort: " + value);
+            };
+        }
+
+        /**
+         * Parses the sort-key part of a cursor back into the value compared in SQL.
+         */
+        public Comparable<?> parse(String value) {
+            return switch (this) {
+                case ID -> Long.valueOf(value);
+                case DUE_DATE -> LocalDate.parse(value);
+                case PRIORITY -> Integer.valueOf(value);
+            };
+        }
+    }
+
+    /**
+     * Tasks without a due date sort after every dated task.
+     */
+    public static final LocalDate NO_DUE_DATE = LocalDate.of(9999, 12, 31);
+
+    public static int priorityRank(Task.Priority priority) {
+        return switch (priority) {
+            case LOW -> 0;
+            case MEDIUM -> 1;
+            case HIGH -> 2;
+        };
+    }
+
+    public static String sortValue(Task task, SortKey sortKey) {
+        return switch (sortKey) {
+            case ID -> String.valueOf(task.getId());
+            case DUE_DATE -> (task.getDueDate() != null ? task.getDueDate() : NO_DUE_DATE).toString();
+            case PRIORITY -> String.valueOf(priorityRank(task.getPriority()));
+        };
+    }
+}
@@ -0,0 +1,15 @@
+package com.taskflow.repository;
+
+import java.util.List;
+
+import com.taskflow.entity.Task;
+
+public interface TaskQueryRepository {
+
+    /**
+     * Runs the filters, ordering and keyset cursor of {@code query} in SQL.
+     * When a limit is set, up to {@code limit + 1} rows are returned so callers
+     * can tell whether another page exists.
+     */
+    List<Task> findTasks(TaskQuery query);
+}
@@ -0,0 +1,99 @@
+package com.taskflow.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import com.taskflow.entity.Task;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+public class TaskQueryRepositoryImpl implements TaskQueryRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Task> findTasks(TaskQuery query) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Task> criteria = cb.createQuery(Task.class);
+        Root<Task> task = criteria.from(Task.class);
+        Path<Long> id = task.get("id");
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.equal(task.get("project").get("id"), query.projectId()));
+        if (query.taskIds() != null) {
+            predicates.add(id.in(query.taskIds()));
+        }
+        if (query.status() != null) {
+            predicates.add(cb.equal(task.get("status"), query.status()));
+        }
+        if (query.priority() != null) {
+            predicates.add(cb.equal(task.get("priority"), query.priority()));
+        }
+        if (query.searchTerms() != null) {
+            for (String term : query.searchTerms()) {
+                String pattern = "%" + escapeLike(term.toLowerCase(Locale.ROOT)) + "%";
+                predicates.add(cb.or(
+                    cb.like(cb.lower(task.get("title")), pattern, '\\'),
+                    cb.like(cb.lower(task.get("description")), pattern, '\\')
+                ));
+            }
+        }
+
+        Expression<?> sortKey = sortExpression(cb, task, query.sortKey());
+        if (query.after() != null) {
+            predicates.add(after(cb, sortKey, id, query.after(), query.descending()));
+        }
+
+        criteria.select(task).where(predicates.toArray(new Predicate[0]));
+        if (query.sortKey() == TaskQuery.SortKey.ID) {
+            criteria.orderBy(query.descending() ? cb.desc(id) : cb.asc(id));
+        } else {
+            criteria.orderBy(
+                query.descending() ? cb.desc(sortKey) : cb.asc(sortKey),
+                query.descending() ? cb.desc(id) : cb.asc(id)
+            );
+        }
+
+        TypedQuery<Task> typed = entityManager.createQuery(criteria);
+        if (query.limit() != null) {
+            typed.setMaxResults(query.limit() + 1);
+        }
+        return typed.getResultList();
+    }
+
+    private Expression<?> sortExpression(CriteriaBuilder cb, Root<Task> task, TaskQuery.SortKey sortKey) {
+        return switch (sortKey) {
+            case ID -> task.get("id");
+            case DUE_DATE -> cb.coalesce(task.get("dueDate"), TaskQuery.NO_DUE_DATE);
+            case PRIORITY -> cb.<Integer>selectCase()
+                .when(cb.equal(task.get("priority"), Task.Priority.LOW), TaskQuery.priorityRank(Task.Priority.LOW))
+                .when(cb.equal(task.get("priority"), Task.Priority.MEDIUM), TaskQuery.priorityRank(Task.Priority.MEDIUM))
+                .otherwise(TaskQuery.priorityRank(Task.Priority.HIGH));
+        };
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Predicate after(CriteriaBuilder cb, Expression sortKey, Path<Long> id, TaskCursor cursor, boolean descending) {
+        if (cursor.sortKey() == TaskQuery.SortKey.ID) {
+            return descending ? cb.lessThan(id, cursor.id()) : cb.greaterThan(id, cursor.id());
+        }
+        Comparable value = cursor.value();
+        Predicate beyondKey = descending ? cb.lessThan(sortKey, value) : cb.greaterThan(sortKey, value);
+        Predicate beyondId = descending ? cb.lessThan(id, cursor.id()) : cb.greaterThan(id, cursor.id());
+        return cb.or(beyondKey, cb.and(cb.equal(sortKey, value), beyondId));
+    }
+
+    private String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -9,7 +9,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import com.taskflow.entity.Project;
 import com.taskflow.entity.Task;
 
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, TaskQueryRepository {
     Page<Task> findByProject(Project project, Pageable pageable);
     List<Task> findByProject(Project project);
     List<Task> findByProjectIn(List<Project> projects);
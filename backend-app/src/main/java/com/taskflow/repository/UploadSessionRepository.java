@@ -0,0 +1,27 @@
+package com.taskflow.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.taskflow.entity.UploadSession;
+
+import jakarta.transaction.Transactional;
+
+public interface UploadSessionRepository extends JpaRepository<UploadSession, String> {
+
+    List<UploadSession> findByLastChunkAtBeforeOrderByLastChunkAtAsc(LocalDateTime cutoff, Pageable pageable);
+
+    /**
+     * Records that a chunk arrived; returns 0 when the session no longer exists.
+     */
+    @Transactional
+    @Modifying
+    @Query("update UploadSession s set s.lastChunkAt = :at where s.id = :id")
+    int touch(@Param("id") String id, @Param("at") LocalDateTime at);
+}
@@ -7,11 +7,21 @@ import org.springframework.stereotype.Component;
 @Component
 public class AuthContext {
 
-    public String getCurrentUserEmail() {
+    public AuthenticatedUser getCurrentUser() {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        if (auth != null && auth.isAuthenticated()) {
-            return auth.getName();
+        if (auth != null && auth.isAuthenticated() && auth.getPrincipal() instanceof AuthenticatedUser user) {
+            return user;
         }
         return null;
     }
+
+    public Long getCurrentUserId() {
+        AuthenticatedUser user = getCurrentUser();
+        return user != null ? user.id() : null;
+    }
+
+    public String getCurrentUserEmail() {
+        AuthenticatedUser user = getCurrentUser();
+        return user != null ? user.email() : null;
+    }
 }
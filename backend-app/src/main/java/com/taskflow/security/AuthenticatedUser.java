@@ -0,0 +1,14 @@
+package com.taskflow.security;
+
+import java.security.Principal;
+
+/**
+ * Request principal built from verified JWT claims, so authenticating a request needs no user lookup.
+ */
+public record AuthenticatedUser(Long id, String email) implements Principal {
+
+    @Override
+    public String getName() {
+        return email;
+    }
+}
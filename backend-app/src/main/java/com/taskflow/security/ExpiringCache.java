@@ -0,0 +1,146 @@
+package com.taskflow.security;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Predicate;
+
+/**
+ * Small thread-safe cache whose entries expire after a fixed time to live, or at an explicit
+ * instant when one is given. Lookups do not lock; once the cache grows past its size, the
+ * entries closest to expiry are dropped first.
+ *
+ * A caller that loads a value while it may be invalidated takes a {@link #stamp(Object) stamp}
+ * before loading and stores with {@link #put(Object, Object, long, long)}: the value is dropped
+ * when the key was removed in between, so an invalidation is never undone by a slow load.
+ */
+public class ExpiringCache<K, V> {
+
+    private static final int STAMP_STRIPES = 1024;
+
+    private final int maxSize;
+    private final long ttlMillis;
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    // Bumped by every removal of a key hashing to the stripe; shared stripes only cost a skipped put
+    private final AtomicLongArray generations = new AtomicLongArray(STAMP_STRIPES);
+    private final AtomicBoolean trimming = new AtomicBoolean();
+
+    public ExpiringCache(int maxSize, long ttlMillis) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlMillis;
+    }
+
+    public V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt() <= System.currentTimeMillis()) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry.value();
+    }
+
+    public void put(K key, V value) {
+        put(key, value, Long.MAX_VALUE);
+    }
+
+    /**
+     * Stores a value that expires at the earlier of the cache TTL and {@code expiresAtMillis}.
+     */
+    public void put(K key, V value, long expiresAtMillis) {
+        long now = System.currentTimeMillis();
+        long expiresAt = Math.min(now + ttlMillis, expiresAtMillis);
+        if (expiresAt <= now) {
+            return;
+        }
+        entries.put(key, new Entry<>(value, expiresAt));
+        trimIfFull();
+    }
+
+    /**
+     * The key's current generation, to pass to {@link #put(Object, Object, long, long)}.
+     */
+    public long stamp(K key) {
+        return generations.get(stripe(key));
+    }
+
+    /**
+     * Stores a value like {@link #put(Object, Object, long)}, unless the key was removed since
+     * {@code stamp} was taken.
+     */
+    public void put(K key, V value, long expiresAtMillis, long stamp) {
+        long now = System.currentTimeMillis();
+        long expiresAt = Math.min(now + ttlMillis, expiresAtMillis);
+        if (expiresAt <= now) {
+            return;
+        }
+        int stripe = stripe(key);
+        // Checked under the key's lock, which remove() waits for after bumping the generation
+        entries.compute(key, (k, current) ->
+            generations.get(stripe) == stamp ? new Entry<>(value, expiresAt) : current);
+        trimIfFull();
+    }
+
+    public void remove(K key) {
+        generations.incrementAndGet(stripe(key));
+        entries.remove(key);
+    }
+
+    /**
+     * Removes matching entries. Every stamp is invalidated, since loads in flight may be for
+     * matching keys that are not cached yet.
+     */
+    public void removeIf(Predicate<K> predicate) {
+        for (int i = 0; i < STAMP_STRIPES; i++) {
+            generations.incrementAndGet(i);
+        }
+        entries.keySet().removeIf(predicate);
+    }
+
+    public void clear() {
+        removeIf(key -> true);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private int stripe(K key) {
+        int hash = key.hashCode();
+        return (hash ^ (hash >>> 16)) & (STAMP_STRIPES - 1);
+    }
+
+    /**
+     * Drops expired entries and then those closest to expiry, down to nine tenths of the
+     * maximum so the sort is paid once per many puts. One thread trims at a time.
+     */
+    private void trimIfFull() {
+        if (entries.size() <= maxSize || !trimming.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long now = System.currentTimeMillis();
+            entries.values().removeIf(entry -> entry.expiresAt() <= now);
+            int excess = entries.size() - maxSize * 9 / 10;
+            if (excess <= 0) {
+                return;
+            }
+            List<Map.Entry<K, Entry<V>>> oldest = new ArrayList<>(entries.entrySet());
+            oldest.sort(Comparator.comparingLong(entry -> entry.getValue().expiresAt()));
+            for (int i = 0; i < excess && i < oldest.size(); i++) {
+                entries.remove(oldest.get(i).getKey(), oldest.get(i).getValue());
+            }
+        } finally {
+            trimming.set(false);
+        }
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+}
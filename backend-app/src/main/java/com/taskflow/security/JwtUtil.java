@@ -2,12 +2,17 @@ package com.taskflow.security;
 
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -16,49 +21,81 @@ import jakarta.annotation.PostConstruct;
 @Component
 public class JwtUtil {
 
+    private static final String USER_ID_CLAIM = "uid";
+
     @Value("${app.jwt.secret}")
     private String jwtSecret;
 
     @Value("${app.jwt.expiration-ms}")
     private long jwtExpirationMs;
 
+    @Value("${app.jwt.verified-cache.max-size:10000}")
+    private int verifiedCacheMaxSize;
+
+    @Value("${app.jwt.verified-cache.ttl-ms:300000}")
+    private long verifiedCacheTtlMs;
+
     private Key signingKey;
 
+    // Parsers are immutable and thread-safe once built
+    private JwtParser parser;
+
+    // SHA-256 of token -> principal, never kept past the token's own expiry
+    private ExpiringCache<String, AuthenticatedUser> verifiedTokens;
+
     @PostConstruct
     public void init() {
         this.signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parserBuilder()
+            .setSigningKey(signingKey)
+            .build();
+        this.verifiedTokens = new ExpiringCache<>(verifiedCacheMaxSize, verifiedCacheTtlMs);
     }
 
-    public String generateToken(String email) {
+    public String generateToken(Long userId, String email) {
         Date now = new Date();
         Date expiry = new Date(now.getTime() + jwtExpirationMs);
 
         return Jwts.builder()
             .setSubject(email)
+            .claim(USER_ID_CLAIM, userId)
             .setIssuedAt(now)
             .setExpiration(expiry)
             .signWith(signingKey, SignatureAlgorithm.HS256)
             .compact();
     }
 
-    public String getEmailFromToken(String token) {
-        return getAllClaims(token).getSubject();
-    }
+    /**
+     * Verifies the token once and returns its principal, or null when the token is invalid
+     * or expired. The id is null for tokens issued before the user id claim was added.
+     */
+    public AuthenticatedUser verify(String token) {
+        String key = hash(token);
+        AuthenticatedUser cached = verifiedTokens.get(key);
+        if (cached != null) {
+            return cached;
+        }
 
-    public boolean validateToken(String token) {
+        Claims claims;
         try {
-            getAllClaims(token);
-            return true;
-        } catch (Exception ex) {
-            return false;
+            claims = parser.parseClaimsJws(token).getBody();
+        } catch (JwtException | IllegalArgumentException ex) {
+            return null;
+        }
+
+        AuthenticatedUser principal = new AuthenticatedUser(claims.get(USER_ID_CLAIM, Long.class), claims.getSubject());
+        if (claims.getExpiration() != null) {
+            verifiedTokens.put(key, principal, claims.getExpiration().getTime());
         }
+        return principal;
     }
 
-    private Claims getAllClaims(String token) {
-        return Jwts.parserBuilder()
-            .setSigningKey(signingKey)
-            .build()
-            .parseClaimsJws(token)
-            .getBody();
+    private String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
     }
 }
@@ -1,41 +1,85 @@
 package com.taskflow.security;
 
+import java.util.Optional;
+
 import com.taskflow.entity.Project;
 import com.taskflow.entity.User;
 import com.taskflow.repository.ProjectRepository;
 import com.taskflow.repository.ProjectUserRepository;
 import com.taskflow.repository.UserRepository;
+import com.taskflow.service.NotificationBus;
+import com.taskflow.service.NotificationBusMessage;
+import com.taskflow.service.TransactionCallbacks;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+/**
+ * Resolves a user's role in a project, caching owners and member roles per node.
+ *
+ * Evictions run on commit, locally and on every other node through the {@link NotificationBus}.
+ * Role lookups take a cache stamp before reading, so a lookup that read the old role before the
+ * commit cannot store it again after the eviction.
+ */
 @Service
 public class ProjectAccessService {
 
+    private static final Logger logger = LoggerFactory.getLogger(ProjectAccessService.class);
+
+    private static final String EVICTION_STREAM = "access";
+    private static final String MEMBER_EVICTED = "member.evicted";
+    private static final String PROJECT_EVICTED = "project.evicted";
+
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
     private final ProjectUserRepository projectUserRepository;
+    private final NotificationBus bus;
+
+    // projectId -> owner id; a hit also means the project exists
+    private final ExpiringCache<Long, Long> projectOwners;
+    // (projectId, userId) -> membership role, empty when the user is not a member
+    private final ExpiringCache<MemberKey, Optional<ProjectRole>> memberRoles;
 
     public ProjectAccessService(
         ProjectRepository projectRepository,
         UserRepository userRepository,
-        ProjectUserRepository projectUserRepository
+        ProjectUserRepository projectUserRepository,
+        NotificationBus bus,
+        @Value("${app.access-cache.max-size:10000}") int cacheMaxSize,
+        @Value("${app.access-cache.ttl-ms:60000}") long cacheTtlMs
     ) {
         this.projectRepository = projectRepository;
         this.userRepository = userRepository;
         this.projectUserRepository = projectUserRepository;
+        this.bus = bus;
+        this.projectOwners = new ExpiringCache<>(cacheMaxSize, cacheTtlMs);
+        this.memberRoles = new ExpiringCache<>(cacheMaxSize, cacheTtlMs);
     }
 
-    public AccessContext requireAccess(Long projectId, String email) {
-        if (email == null) {
+    public AccessContext requireAccess(Long projectId, AuthenticatedUser principal) {
+        if (principal == null) {
             throw new RuntimeException("Not authenticated");
         }
 
-        Project project = projectRepository.findById(projectId)
-            .orElseThrow(() -> new RuntimeException("Project not found"));
-
-        User user = userRepository.findByEmail(email)
-            .orElseThrow(() -> new RuntimeException("User not found"));
+        // The principal comes from verified token claims, so the user row is only loaded if read
+        User user = userRepository.getReferenceById(principal.id());
+
+        Project project;
+        Long ownerId = projectOwners.get(projectId);
+        if (ownerId != null) {
+            // Loaded lazily, only if the caller reads more than the id
+            project = projectRepository.getReferenceById(projectId);
+        } else {
+            long stamp = projectOwners.stamp(projectId);
+            project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new RuntimeException("Project not found"));
+            ownerId = project.getOwner().getId();
+            projectOwners.put(projectId, ownerId, Long.MAX_VALUE, stamp);
+        }
 
-        ProjectRole role = resolveRole(project, user);
+        ProjectRole role = resolveRole(projectId, ownerId, principal.id());
         if (role == null) {
             throw new RuntimeException("Forbidden: not project member");
         }
@@ -43,14 +87,84 @@ public class ProjectAccessService {
         return new AccessContext(project, user, role);
     }
 
-    public ProjectRole resolveRole(Project project, User user) {
-        if (project.getOwner().getId().equals(user.getId())) {
+    @PostConstruct
+    void subscribe() {
+        bus.subscribe(this::onEviction);
+    }
+
+    private ProjectRole resolveRole(Long projectId, Long ownerId, Long userId) {
+        if (ownerId.equals(userId)) {
             return ProjectRole.OWNER;
         }
 
-        return projectUserRepository.findByProjectIdAndUserId(project.getId(), user.getId())
-            .map(pu -> ProjectRole.from(pu.getRole()))
-            .orElse(null);
+        MemberKey key = new MemberKey(projectId, userId);
+        Optional<ProjectRole> cached = memberRoles.get(key);
+        if (cached == null) {
+            long stamp = memberRoles.stamp(key);
+            cached = projectUserRepository.findByProjectIdAndUserId(projectId, userId)
+                .map(pu -> ProjectRole.from(pu.getRole()));
+            memberRoles.put(key, cached, Long.MAX_VALUE, stamp);
+        }
+        return cached.orElse(null);
+    }
+
+    /**
+     * Drops the cached role of one member, on every node, after it was granted, changed or
+     * revoked. Inside a transaction this happens on commit, so the old role stays visible to
+     * nobody once the change is.
+     */
+    public void evictMember(Long projectId, Long userId) {
+        TransactionCallbacks.afterCommit(() -> {
+            removeMember(projectId, userId);
+            broadcast(MEMBER_EVICTED, projectId + ":" + userId);
+        });
+    }
+
+    /**
+     * Drops everything cached for a deleted project, on commit like {@link #evictMember}.
+     */
+    public void evictProject(Long projectId) {
+        TransactionCallbacks.afterCommit(() -> {
+            removeProject(projectId);
+            broadcast(PROJECT_EVICTED, projectId.toString());
+        });
+    }
+
+    private void removeMember(Long projectId, Long userId) {
+        memberRoles.remove(new MemberKey(projectId, userId));
+    }
+
+    private void removeProject(Long projectId) {
+        projectOwners.remove(projectId);
+        memberRoles.removeIf(key -> key.projectId().equals(projectId));
+    }
+
+    /**
+     * Best effort like other bus publishes; the cache TTL bounds how long another node can
+     * serve the old role if the broadcast is lost.
+     */
+    private void broadcast(String event, String payload) {
+        try {
+            bus.publish(EVICTION_STREAM, event, payload);
+        } catch (RuntimeException ex) {
+            logger.warn("Could not broadcast access cache eviction: {}", ex.getMessage());
+        }
+    }
+
+    // The publishing node receives its own evictions too; removing again is harmless
+    private void onEviction(NotificationBusMessage message) {
+        if (!EVICTION_STREAM.equals(message.stream())) {
+            return;
+        }
+        String[] ids = message.payload().split(":");
+        if (MEMBER_EVICTED.equals(message.event())) {
+            removeMember(Long.valueOf(ids[0]), Long.valueOf(ids[1]));
+        } else if (PROJECT_EVICTED.equals(message.event())) {
+            removeProject(Long.valueOf(ids[0]));
+        }
+    }
+
+    private record MemberKey(Long projectId, Long userId) {
     }
 
     public static class AccessContext {
@@ -0,0 +1,221 @@
+package com.taskflow.service;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import com.taskflow.entity.ActivityLog;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Write-behind sink for the activity trail. Entries are queued on the request thread and
+ * inserted by a single writer in JDBC batches, flushed once a batch fills or the flush
+ * interval passes.
+ *
+ * There is one writer and one queue, and entries only leave the queue under the write lock,
+ * so they reach the table in the order they were recorded, which keeps each project's trail
+ * in order, and {@link #flush()} returning means every earlier entry is in the table. The
+ * writer waits for a batch to fill without holding the lock. When the queue stays full past the
+ * enqueue timeout the caller drains it and writes inline, slowing writers down to the
+ * database's pace rather than dropping entries.
+ */
+@Service
+public class ActivityLogWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ActivityLogWriter.class);
+
+    private static final String INSERT_SQL = """
+        insert into activity_logs (project_id, user_id, action, entity_type, entity_id, description, created_at)
+        values (?, ?, ?, ?, ?, ?, ?)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BlockingQueue<Entry> queue;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final long enqueueTimeoutMs;
+    // Held while draining and writing so inline flushes never interleave with the writer
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private Thread writer;
+    private volatile boolean running;
+
+    public ActivityLogWriter(
+        JdbcTemplate jdbcTemplate,
+        @Value("${app.activity.queue-capacity:10000}") int queueCapacity,
+        @Value("${app.activity.batch-size:200}") int batchSize,
+        @Value("${app.activity.flush-interval-ms:250}") long flushIntervalMs,
+        @Value("${app.activity.enqueue-timeout-ms:50}") long enqueueTimeoutMs
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.enqueueTimeoutMs = enqueueTimeoutMs;
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        writer = new Thread(this::run, "activity-log-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(writer);
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+        flush();
+    }
+
+    public void record(ActivityLog log) {
+        Entry entry = Entry.of(log);
+        try {
+            if (queue.offer(entry, enqueueTimeoutMs, TimeUnit.MILLISECONDS)) {
+                int queued = queue.size();
+                if (queued == 1 || queued >= batchSize) {
+                    LockSupport.unpark(writer);
+                }
+                return;
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+
+        // Queue is saturated: write everything ahead of this entry, then the entry itself
+        writeLock.lock();
+        try {
+            List<Entry> batch = new ArrayList<>();
+            queue.drainTo(batch);
+            batch.add(entry);
+            write(batch);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Writes every queued entry before returning.
+     */
+    public void flush() {
+        writeLock.lock();
+        try {
+            List<Entry> batch = new ArrayList<>(batchSize);
+            while (queue.drainTo(batch, batchSize) > 0) {
+                write(batch);
+                batch.clear();
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void run() {
+        List<Entry> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                if (queue.isEmpty()) {
+                    // record() wakes the writer when the queue stops being empty
+                    LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(flushIntervalMs));
+                    continue;
+                }
+                // Give a partial batch until the interval runs out to fill up
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+                long remaining;
+                while (running && queue.size() < batchSize && (remaining = deadline - System.nanoTime()) > 0) {
+                    LockSupport.parkNanos(this, remaining);
+                }
+                writeLock.lock();
+                try {
+                    queue.drainTo(batch, batchSize);
+                    write(batch);
+                } finally {
+                    writeLock.unlock();
+                }
+            } catch (RuntimeException ex) {
+                logger.error("Activity log writer failed", ex);
+            } finally {
+                batch.clear();
+            }
+        }
+        // stop() flushes whatever is still queued
+    }
+
+    private void write(List<Entry> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, entry) -> entry.bind(ps));
+        } catch (RuntimeException batchFailure) {
+            // Retry one row at a time so a single bad entry does not lose the whole batch
+            for (Entry entry : batch) {
+                try {
+                    jdbcTemplate.update(INSERT_SQL, entry::bind);
+                } catch (RuntimeException ex) {
+                    logger.warn("Dropping activity log entry {} for project {}: {}",
+                        entry.action(), entry.projectId(), ex.getMessage());
+                }
+            }
+        }
+    }
+
+    private record Entry(
+        Long projectId,
+        Long userId,
+        String action,
+        String entityType,
+        Long entityId,
+        String description,
+        LocalDateTime createdAt
+    ) {
+
+        static Entry of(ActivityLog log) {
+            return new Entry(
+                log.getProject() != null ? log.getProject().getId() : null,
+                log.getUser().getId(),
+                log.getAction(),
+                log.getEntityType(),
+                log.getEntityId(),
+                log.getDescription(),
+                log.getCreatedAt() != null ? log.getCreatedAt() : LocalDateTime.now()
+            );
+        }
+
+        void bind(PreparedStatement ps) throws SQLException {
+            setLong(ps, 1, projectId);
+            ps.setLong(2, userId);
+            ps.setString(3, action);
+            ps.setString(4, entityType);
+            setLong(ps, 5, entityId);
+            ps.setString(6, description);
+            ps.setTimestamp(7, Timestamp.valueOf(createdAt));
+        }
+
+        private static void setLong(PreparedStatement ps, int index, Long value) throws SQLException {
+            if (value == null) {
+                ps.setNull(index, Types.BIGINT);
+            } else {
+                ps.setLong(index, value);
+            }
+        }
+    }
+}
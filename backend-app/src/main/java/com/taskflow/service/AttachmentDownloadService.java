@@ -0,0 +1,179 @@
+package com.taskflow.service;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import com.taskflow.entity.FileAttachment;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Streams attachment bytes from storage straight to the response, honouring a single byte range.
+ *
+ * Local files are copied with {@link FileChannel#transferTo}, and other backends through a
+ * fixed buffer, so heap use does not grow with the file size. {@code If-Range} is checked
+ * against the attachment's ETag or last modified time, and a stale validator gets the whole
+ * file as the RFC requires. Requests for several ranges are answered with the whole file,
+ * which HTTP allows and browsers handle.
+ */
+@Service
+public class AttachmentDownloadService {
+
+    private static final int COPY_BUFFER_BYTES = 64 * 1024;
+
+    private final FileUploadService fileUploadService;
+
+    public AttachmentDownloadService(FileUploadService fileUploadService) {
+        this.fileUploadService = fileUploadService;
+    }
+
+    public void send(FileAttachment attachment, HttpServletRequest request, HttpServletResponse response)
+        throws IOException {
+        StorageBackend.ObjectInfo info = fileUploadService.stat(attachment.getStoragePath());
+        if (info == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND, "File not found");
+            return;
+        }
+        long length = info.size();
+        long lastModified = info.lastModifiedMillis();
+        String etag = "\"" + attachment.getId() + "-" + length + "-" + lastModified + "\"";
+
+        if (new ServletWebRequest(request, response).checkNotModified(etag, lastModified)) {
+            return;
+        }
+
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setContentType(contentType(attachment));
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+            .filename(attachment.getFileName(), StandardCharsets.UTF_8)
+            .build()
+            .toString());
+
+        long start = 0;
+        long end = length - 1;
+        HttpRange range = requestedRange(request, etag, lastModified);
+        if (range != null) {
+            try {
+                start = range.getRangeStart(length);
+                end = range.getRangeEnd(length);
+                // HttpRange accepts a first byte at or past the end; nothing of it can be served
+                if (start >= length) {
+                    throw new IllegalArgumentException("Range starts past the end");
+                }
+            } catch (IllegalArgumentException ex) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+        }
+        long count = length == 0 ? 0 : end - start + 1;
+        response.setContentLengthLong(count);
+        if ("HEAD".equals(request.getMethod()) || count == 0) {
+            return;
+        }
+
+        try (ReadableByteChannel in = fileUploadService.open(attachment.getStoragePath(), start, count)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            if (in instanceof FileChannel file) {
+                transfer(file, count, out);
+            } else {
+                copy(in, count, out);
+            }
+        }
+    }
+
+    private static void transfer(FileChannel file, long count, WritableByteChannel out) throws IOException {
+        long position = file.position();
+        long remaining = count;
+        while (remaining > 0) {
+            long sent = file.transferTo(position, remaining, out);
+            if (sent <= 0) {
+                // The file shrank underneath us; the client sees a short body
+                break;
+            }
+            position += sent;
+            remaining -= sent;
+        }
+    }
+
+    private static void copy(ReadableByteChannel in, long count, WritableByteChannel out) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(COPY_BUFFER_BYTES);
+        long remaining = count;
+        while (remaining > 0) {
+            buffer.limit((int) Math.min(buffer.capacity(), remaining));
+            int read = in.read(buffer);
+            if (read < 0) {
+                break;
+            }
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                out.write(buffer);
+            }
+            buffer.clear();
+            remaining -= read;
+        }
+    }
+
+    /**
+     * The single range to serve, or null to serve the whole file.
+     */
+    private HttpRange requestedRange(HttpServletRequest request, String etag, long lastModified) {
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader == null) {
+            return null;
+        }
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange != null && !ifRangeMatches(ifRange.trim(), etag, lastModified)) {
+            return null;
+        }
+        List<HttpRange> ranges;
+        try {
+            ranges = HttpRange.parseRanges(rangeHeader);
+        } catch (IllegalArgumentException ex) {
+            // An unparseable Range header is ignored
+            return null;
+        }
+        return ranges.size() == 1 ? ranges.get(0) : null;
+    }
+
+    private static boolean ifRangeMatches(String ifRange, String etag, long lastModified) {
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            // Weak tags never match for ranges
+            return ifRange.equals(etag);
+        }
+        try {
+            long date = ZonedDateTime.parse(ifRange, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+            // HTTP dates have whole-second precision
+            return date == lastModified / 1000 * 1000;
+        } catch (DateTimeParseException ex) {
+            return false;
+        }
+    }
+
+    private static String contentType(FileAttachment attachment) {
+        try {
+            return MediaType.parseMediaType(attachment.getFileType()).toString();
+        } catch (RuntimeException ex) {
+            return MediaType.APPLICATION_OCTET_STREAM_VALUE;
+        }
+    }
+}
@@ -0,0 +1,361 @@
+package com.taskflow.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.taskflow.entity.Comment;
+import com.taskflow.entity.FileAttachment;
+import com.taskflow.entity.Task;
+import com.taskflow.entity.UploadSession;
+import com.taskflow.entity.User;
+import com.taskflow.repository.CommentRepository;
+import com.taskflow.repository.FileAttachmentRepository;
+import com.taskflow.repository.TaskRepository;
+import com.taskflow.repository.UploadSessionRepository;
+
+/**
+ * Resumable uploads. A session's chunks are appended in order to one part file next to the blob
+ * store, and completing the session moves that file into place, so every byte is written to
+ * disk once. The part file's length is the resume offset: a chunk cut off mid-transfer keeps
+ * what arrived and the client continues from there.
+ *
+ * The SHA-256 is updated as chunks arrive and only recomputed from the file if that state was
+ * lost, for example across a restart. Part files are node-local, so a deployment with several
+ * nodes needs a shared upload directory or sticky routing for upload requests.
+ *
+ * Sessions expire by the time of their last chunk, which is kept in the database. One node at
+ * a time, holding a lease in {@code job_leases}, deletes expired sessions; every node then
+ * removes its own stale part files that no longer have a session.
+ */
+@Service
+public class ChunkedUploadService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChunkedUploadService.class);
+
+    private static final String DEFAULT_FILE_TYPE = "application/octet-stream";
+    private static final int COPY_BUFFER_BYTES = 64 * 1024;
+    private static final int EXPIRE_BATCH_SIZE = 500;
+    private static final String LEASE = "upload-session-expiry";
+
+    private final UploadSessionRepository uploadSessionRepository;
+    private final FileAttachmentRepository fileAttachmentRepository;
+    private final TaskRepository taskRepository;
+    private final CommentRepository commentRepository;
+    private final FileUploadService fileUploadService;
+    private final long maxChunkBytes;
+    private final long maxFileBytes;
+    private final long sessionTtlMs;
+    private final JobLease expiryLease;
+    private final Map<String, Progress> progress = new ConcurrentHashMap<>();
+
+    public ChunkedUploadService(
+        UploadSessionRepository uploadSessionRepository,
+        FileAttachmentRepository fileAttachmentRepository,
+        TaskRepository taskRepository,
+        CommentRepository commentRepository,
+        FileUploadService fileUploadService,
+        JdbcTemplate jdbcTemplate,
+        @Value("${app.uploads.max-chunk-bytes:8388608}") long maxChunkBytes,
+        @Value("${app.uploads.max-file-bytes:2147483648}") long maxFileBytes,
+        @Value("${app.uploads.session-ttl-ms:86400000}") long sessionTtlMs,
+        @Value("${app.uploads.expire-lease-ms:600000}") long expireLeaseMs
+    ) {
+        this.uploadSessionRepository = uploadSessionRepository;
+        this.fileAttachmentRepository = fileAttachmentRepository;
+        this.taskRepository = taskRepository;
+        this.commentRepository = commentRepository;
+        this.fileUploadService = fileUploadService;
+        this.maxChunkBytes = maxChunkBytes;
+        this.maxFileBytes = maxFileBytes;
+        this.sessionTtlMs = sessionTtlMs;
+        this.expiryLease = new JobLease(jdbcTemplate, LEASE, expireLeaseMs);
+    }
+
+    public long getMaxChunkBytes() {
+        return maxChunkBytes;
+    }
+
+    public UploadSession start(User user, Task task, Comment comment, String fileName, String fileType, Long totalSize)
+        throws IOException {
+        if (fileName == null || fileName.isBlank()) {
+            throw new IllegalArgumentException("File name is required");
+        }
+        if (totalSize == null || totalSize < 0 || totalSize > maxFileBytes) {
+            throw new IllegalArgumentException("File size must be between 0 and " + maxFileBytes + " bytes");
+        }
+        UploadSession session = new UploadSession(
+            UUID.randomUUID().toString(),
+            user.getId(),
+            task.getProject().getId(),
+            task.getId(),
+            comment != null ? comment.getId() : null,
+            fileName,
+            fileType != null && !fileType.isBlank() ? fileType : DEFAULT_FILE_TYPE,
+            totalSize
+        );
+        Files.createFile(partFile(session.getId()));
+        progress.put(session.getId(), new Progress());
+        return uploadSessionRepository.save(session);
+    }
+
+    /**
+     * The user's session on the given project and task, or an exception if there is none.
+     */
+    public UploadSession getSession(String uploadId, Long userId, Long projectId, Long taskId) {
+        return uploadSessionRepository.findById(uploadId)
+            .filter(session -> session.getUserId().equals(userId)
+                && session.getProjectId().equals(projectId)
+                && session.getTaskId().equals(taskId))
+            .orElseThrow(() -> new RuntimeException("Upload not found"));
+    }
+
+    public long offset(UploadSession session) throws IOException {
+        if (session.getAttachmentId() != null) {
+            return session.getTotalSize();
+        }
+        try {
+            return Files.size(partFile(session.getId()));
+        } catch (NoSuchFileException ex) {
+            throw new RuntimeException("Upload not found");
+        }
+    }
+
+    /**
+     * Appends one chunk that must start at the current offset, and returns the new offset.
+     * Throws {@link IllegalStateException} when {@code offset} is not the current offset.
+     */
+    public long append(UploadSession session, long offset, InputStream body) throws IOException {
+        if (session.getAttachmentId() != null) {
+            throw new IllegalStateException("Upload already completed");
+        }
+        Progress state = progress.computeIfAbsent(session.getId(), key -> new Progress());
+        synchronized (state) {
+            // Keeps the session alive, and refuses chunks for one that has expired meanwhile
+            if (uploadSessionRepository.touch(session.getId(), LocalDateTime.now()) == 0) {
+                throw new RuntimeException("Upload not found");
+            }
+            try (FileChannel part = FileChannel.open(partFile(session.getId()), StandardOpenOption.WRITE)) {
+                long start = part.size();
+                if (offset != start) {
+                    throw new IllegalStateException("Upload is at offset " + start);
+                }
+                long limit = Math.min(maxChunkBytes, session.getTotalSize() - start);
+                boolean hashing = state.hashedUpTo == start;
+                ReadableByteChannel in = Channels.newChannel(body);
+                ByteBuffer buffer = ByteBuffer.allocate(COPY_BUFFER_BYTES);
+                long position = start;
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    if (position - start + read > limit) {
+                        part.truncate(start);
+                        state.hashedUpTo = -1;
+                        throw new IllegalArgumentException("Chunk exceeds the remaining size or the "
+                            + maxChunkBytes + " byte chunk limit");
+                    }
+                    buffer.flip();
+                    if (hashing) {
+                        state.digest.update(buffer.duplicate());
+                    }
+                    while (buffer.hasRemaining()) {
+                        position += part.write(buffer, position);
+                    }
+                    buffer.clear();
+                    if (hashing) {
+                        state.hashedUpTo = position;
+                    }
+                }
+                return position;
+            }
+        }
+    }
+
+    /**
+     * Verifies the finished upload against the client's SHA-256 and turns it into an attachment.
+     * A mismatch discards the session, since its bytes cannot be trusted. Completing a session
+     * again returns the attachment the first completion created.
+     */
+    public FileAttachment complete(UploadSession session, String sha256, User uploader) throws IOException {
+        if (sha256 == null || sha256.isBlank()) {
+            throw new IllegalArgumentException("sha256 is required");
+        }
+        Path part = partFile(session.getId());
+        Progress state = progress.computeIfAbsent(session.getId(), key -> new Progress());
+        synchronized (state) {
+            // Re-read, since a concurrent completion may have finished while we waited
+            UploadSession current = uploadSessionRepository.findById(session.getId())
+                .orElseThrow(() -> new RuntimeException("Upload not found"));
+            if (current.getAttachmentId() != null) {
+                return fileAttachmentRepository.findById(current.getAttachmentId())
+                    .orElseThrow(() -> new RuntimeException("Upload not found"));
+            }
+            long size = offset(current);
+            if (size != current.getTotalSize()) {
+                throw new IllegalStateException("Upload incomplete: " + size + " of " + current.getTotalSize() + " bytes");
+            }
+            String actual = state.hashedUpTo == size
+                ? HexFormat.of().formatHex(state.digest.digest())
+                : hash(part);
+            // digest() reset the running hash
+            state.hashedUpTo = -1;
+            if (!actual.equalsIgnoreCase(sha256.trim())) {
+                discard(current);
+                throw new IllegalArgumentException("Checksum mismatch");
+            }
+
+            Task task = taskRepository.findById(current.getTaskId())
+                .orElseThrow(() -> new RuntimeException("Task not found"));
+            Comment comment = current.getCommentId() == null ? null : commentRepository.findById(current.getCommentId())
+                .orElseThrow(() -> new RuntimeException("Comment not found"));
+
+            FileAttachment attachment = fileUploadService.storeBlob(part, actual, storagePath -> {
+                FileAttachment created = new FileAttachment(
+                    current.getFileName(),
+                    current.getFileType(),
+                    size,
+                    storagePath,
+                    uploader
+                );
+                if (comment != null) {
+                    created.setComment(comment);
+                } else {
+                    created.setTask(task);
+                }
+                FileAttachment saved = fileAttachmentRepository.save(created);
+                // Recorded with the attachment, so a retry finds it even if this response is lost
+                current.setAttachmentId(saved.getId());
+                uploadSessionRepository.save(current);
+                return saved;
+            });
+            progress.remove(current.getId());
+            Files.deleteIfExists(part);
+            return attachment;
+        }
+    }
+
+    public void abort(UploadSession session) throws IOException {
+        discard(session);
+    }
+
+    /**
+     * Drops sessions with no chunk received for the session TTL, completed ones included, then
+     * this node's part files left without a session.
+     */
+    @Scheduled(
+        fixedDelayString = "${app.uploads.expire-interval-ms:3600000}",
+        initialDelayString = "${app.uploads.expire-interval-ms:3600000}"
+    )
+    public void expireSessions() {
+        long cutoffMillis = System.currentTimeMillis() - sessionTtlMs;
+        LocalDateTime cutoff = LocalDateTime.ofInstant(Instant.ofEpochMilli(cutoffMillis), ZoneId.systemDefault());
+        if (expiryLease.claim()) {
+            try {
+                expireIdle(cutoff);
+            } finally {
+                expiryLease.release();
+            }
+        }
+        removeOrphanedParts(cutoffMillis);
+    }
+
+    private void expireIdle(LocalDateTime cutoff) {
+        List<UploadSession> batch;
+        int expired;
+        do {
+            batch = uploadSessionRepository.findByLastChunkAtBeforeOrderByLastChunkAtAsc(
+                cutoff, PageRequest.of(0, EXPIRE_BATCH_SIZE));
+            expired = 0;
+            for (UploadSession session : batch) {
+                try {
+                    discard(session);
+                    expired++;
+                } catch (IOException | RuntimeException ex) {
+                    logger.warn("Could not expire upload session {}: {}", session.getId(), ex.getMessage());
+                }
+            }
+            // A batch that failed entirely would only be selected again
+        } while (batch.size() == EXPIRE_BATCH_SIZE && expired > 0 && expiryLease.claim());
+    }
+
+    /**
+     * Deletes part files untouched since {@code cutoffMillis} whose session is gone, such as those of
+     * sessions another node expired. Newer files are left alone, since a session's part file
+     * is created just before its row.
+     */
+    private void removeOrphanedParts(long cutoffMillis) {
+        try (DirectoryStream<Path> parts = Files.newDirectoryStream(fileUploadService.tempDirectory(), "session-*.part")) {
+            for (Path part : parts) {
+                String name = part.getFileName().toString();
+                String uploadId = name.substring("session-".length(), name.length() - ".part".length());
+                try {
+                    if (Files.getLastModifiedTime(part).toMillis() < cutoffMillis
+                            && !uploadSessionRepository.existsById(uploadId)) {
+                        progress.remove(uploadId);
+                        Files.deleteIfExists(part);
+                    }
+                } catch (IOException | RuntimeException ex) {
+                    logger.warn("Could not remove part file {}: {}", part, ex.getMessage());
+                }
+            }
+        } catch (IOException ex) {
+            logger.warn("Could not list part files: {}", ex.getMessage());
+        }
+    }
+
+    private void discard(UploadSession session) throws IOException {
+        progress.remove(session.getId());
+        Files.deleteIfExists(partFile(session.getId()));
+        uploadSessionRepository.deleteById(session.getId());
+    }
+
+    private Path partFile(String uploadId) throws IOException {
+        return fileUploadService.tempDirectory().resolve("session-" + uploadId + ".part");
+    }
+
+    private static String hash(Path file) throws IOException {
+        MessageDigest digest = FileUploadService.sha256();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(COPY_BUFFER_BYTES);
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Running hash of a session's part file, valid for its first {@code hashedUpTo} bytes.
+     * Also the monitor that serializes chunks of one session.
+     */
+    private static final class Progress {
+        private final MessageDigest digest = FileUploadService.sha256();
+        private long hashedUpTo;
+    }
+}
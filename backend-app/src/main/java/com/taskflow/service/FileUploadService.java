@@ -1,50 +1,266 @@
 package com.taskflow.service;
 
+import com.taskflow.repository.FileAttachmentRepository;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.UUID;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.function.Function;
+import java.util.regex.Pattern;
 
+/**
+ * Content-addressed attachment storage on top of a {@link StorageBackend}. Uploads are hashed
+ * while they stream to a local temp file and kept once per distinct content, keyed by their
+ * SHA-256; every attachment with the same bytes shares that object through its storage path.
+ *
+ * An object is referenced by the attachment rows whose storage path names it, and is deleted
+ * with the last of them. Saving a row, and counting rows plus deleting the object, run in one
+ * transaction holding the key's {@code storage_locks} row FOR UPDATE. The upload itself happens
+ * before that, holding no connection or lock; the locked step checks the object is still there
+ * and uploads again in the rare case another node removed it meanwhile. Files stored under
+ * older layouts keep working until {@link StorageMigration} rehomes them.
+ */
 @Service
 public class FileUploadService {
-    @Value("${file.upload-dir:uploads}")
-    private String uploadDir;
 
-    public String saveFile(MultipartFile file) throws IOException {
-        // Ensure upload directory exists
-        File dir = new File(uploadDir);
-        if (!dir.exists()) {
-            dir.mkdirs();
+    private static final String THUMBNAIL_SUFFIX = ".thumb.jpg";
+    private static final Pattern CONTENT_KEY = Pattern.compile("[0-9a-f]{64}");
+
+    private final StorageBackend storage;
+    private final Path tempDir;
+    private final FileAttachmentRepository fileAttachmentRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transaction;
+    private final TransactionTemplate separateTransaction;
+
+    public FileUploadService(
+        StorageBackend storage,
+        @Value("${app.storage.temp-dir:${app.storage.local.root:${file.upload-dir:uploads}}/tmp}") String tempDir,
+        FileAttachmentRepository fileAttachmentRepository,
+        JdbcTemplate jdbcTemplate,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.storage = storage;
+        this.tempDir = Paths.get(tempDir);
+        this.fileAttachmentRepository = fileAttachmentRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.separateTransaction = new TransactionTemplate(transactionManager);
+        this.separateTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Stores the upload and hands its storage path to {@code recordReference}, which saves the
+     * attachment row referencing it. Returns whatever that callback returns.
+     */
+    public <T> T saveFile(MultipartFile file, Function<String, T> recordReference) throws IOException {
+        Path temp = Files.createTempFile(tempDirectory(), "upload-", ".part");
+        try {
+            MessageDigest digest = sha256();
+            try (InputStream in = new DigestInputStream(file.getInputStream(), digest)) {
+                Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return storeBlob(temp, HexFormat.of().formatHex(digest.digest()), recordReference);
+        } finally {
+            Files.deleteIfExists(temp);
         }
+    }
 
-        // Generate unique filename
-        String fileName = UUID.randomUUID() + "_" + file.getOriginalFilename();
-        Path filePath = Paths.get(uploadDir, fileName);
+    /**
+     * Stores a fully written temp file under its content hash, unless that content is already
+     * stored, then records the reference while the key is locked.
+     */
+    <T> T storeBlob(Path temp, String sha256, Function<String, T> recordReference) throws IOException {
+        if (!storage.exists(sha256)) {
+            // The put consumes its source; temp stays, in case the locked step has to put again
+            Path staged = stagedCopy(temp);
+            try {
+                storage.put(sha256, staged);
+            } finally {
+                Files.deleteIfExists(staged);
+            }
+        }
+        try {
+            return withKeyLock(sha256, () -> {
+                if (!storage.exists(sha256)) {
+                    // Deleted by another node since the upload, as its last reference went
+                    storage.put(sha256, temp);
+                }
+                return recordReference.apply(sha256);
+            });
+        } catch (IOException | RuntimeException ex) {
+            // No row references an object stored here unless another upload recorded one since
+            try {
+                deleteFile(sha256);
+            } catch (IOException | RuntimeException cleanup) {
+                ex.addSuppressed(cleanup);
+            }
+            throw ex;
+        }
+    }
 
-        // Save file
-        file.transferTo(filePath);
+    /**
+     * A second name for the temp file, hard linked where the file system allows so nothing is
+     * copied.
+     */
+    private static Path stagedCopy(Path temp) throws IOException {
+        Path staged = temp.resolveSibling(temp.getFileName() + ".staged");
+        try {
+            return Files.createLink(staged, temp);
+        } catch (UnsupportedOperationException | IOException ex) {
+            return Files.copy(temp, staged, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
 
-        return fileName;
+    /**
+     * Where uploads are written before they are complete. For the local backend it is on the
+     * same file system as the stored files, so a finished file moves into place with a rename.
+     */
+    Path tempDirectory() throws IOException {
+        return Files.createDirectories(tempDir);
     }
 
+    /**
+     * Deletes the stored file once no attachment row references it. Call after the row is gone.
+     */
     public void deleteFile(String fileName) throws IOException {
-        Path filePath = Paths.get(uploadDir, fileName);
-        Files.deleteIfExists(filePath);
+        withKeyLock(fileName, () -> {
+            if (fileAttachmentRepository.countByStoragePath(fileName) == 0) {
+                storage.delete(fileName);
+                storage.delete(getThumbnailKey(fileName));
+                jdbcTemplate.update("delete from storage_locks where storage_key = ?", fileName);
+            }
+            return null;
+        });
+    }
+
+    public StorageBackend.ObjectInfo stat(String fileName) throws IOException {
+        return storage.stat(fileName);
+    }
+
+    public ReadableByteChannel open(String fileName, long offset, long length) throws IOException {
+        return storage.open(fileName, offset, length);
+    }
+
+    /**
+     * The storage key of a stored file's preview, kept next to it and shared like the file.
+     */
+    public String getThumbnailKey(String fileName) {
+        return fileName + THUMBNAIL_SUFFIX;
+    }
+
+    /**
+     * Stores a finished preview file; the source is consumed.
+     */
+    public void saveThumbnail(String fileName, Path source) throws IOException {
+        storage.put(getThumbnailKey(fileName), source);
     }
 
-    public byte[] getFile(String fileName) throws IOException {
-        Path filePath = Paths.get(uploadDir, fileName);
-        return Files.readAllBytes(filePath);
+    public boolean fileExists(String fileName) throws IOException {
+        return storage.exists(fileName);
     }
 
-    public boolean fileExists(String fileName) {
-        Path filePath = Paths.get(uploadDir, fileName);
-        return Files.exists(filePath);
+    /**
+     * Moves a file stored under an older layout to its content key, repoints every attachment
+     * row at it, then removes the original. The original is looked up in the backend, then
+     * under {@code legacyRoot} on local disk, which covers flat {@code UUID_name} files when
+     * moving to another backend. Returns the new key, or null when the file is missing.
+     */
+    public String rehome(String fileName, Path legacyRoot) throws IOException {
+        if (CONTENT_KEY.matcher(fileName).matches()) {
+            return fileName;
+        }
+        Path legacyFile = legacyRoot.resolve(fileName).normalize();
+        if (!legacyFile.startsWith(legacyRoot.normalize())) {
+            throw new IllegalArgumentException("Invalid storage path: " + fileName);
+        }
+
+        // Copy rather than move, so the rows keep a valid file until they point at the new one
+        Path temp = Files.createTempFile(tempDirectory(), "rehome-", ".part");
+        try {
+            StorageBackend.ObjectInfo info = storage.stat(fileName);
+            if (info == null && !Files.isRegularFile(legacyFile)) {
+                return null;
+            }
+            MessageDigest digest = sha256();
+            try (InputStream in = new DigestInputStream(info != null
+                ? Channels.newInputStream(storage.open(fileName, 0, info.size()))
+                : Files.newInputStream(legacyFile), digest)) {
+                Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+            }
+            String key = HexFormat.of().formatHex(digest.digest());
+            storeBlob(temp, key, storedKey -> fileAttachmentRepository.updateStoragePath(fileName, storedKey));
+
+            // Legacy previews are dropped; StorageMigration queues fresh ones
+            deleteFile(fileName);
+            Files.deleteIfExists(legacyFile);
+            Files.deleteIfExists(legacyRoot.resolve(getThumbnailKey(fileName)).normalize());
+            return key;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Runs {@code work} in a transaction holding the key's lock row. The row is created on first
+     * use in its own transaction; a deleter may remove it while we wait, in which case it is
+     * created again.
+     */
+    private <T> T withKeyLock(String key, StorageWork<T> work) throws IOException {
+        try {
+            return transaction.execute(status -> {
+                while (jdbcTemplate.queryForList(
+                        "select storage_key from storage_locks where storage_key = ? for update", String.class, key).isEmpty()) {
+                    createLockRow(key);
+                }
+                try {
+                    return work.run();
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    private void createLockRow(String key) {
+        try {
+            separateTransaction.executeWithoutResult(status ->
+                jdbcTemplate.update("insert into storage_locks (storage_key) values (?)", key));
+        } catch (DuplicateKeyException ex) {
+            // Another node created it first
+        }
+    }
+
+    @FunctionalInterface
+    private interface StorageWork<T> {
+        T run() throws IOException;
+    }
+
+    static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
     }
 }
@@ -0,0 +1,33 @@
+package com.taskflow.service;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+/**
+ * Single-node bus: messages go straight to this node's listeners. Publishes are serialized, so
+ * listeners see ids in increasing order; ids start from the clock in microseconds so they keep
+ * growing across restarts.
+ */
+@Service
+@ConditionalOnProperty(name = "app.notifications.bus", havingValue = "in-process", matchIfMissing = true)
+public class InProcessNotificationBus implements NotificationBus {
+
+    private final List<Consumer<NotificationBusMessage>> listeners = new CopyOnWriteArrayList<>();
+    private long lastId;
+
+    @Override
+    public synchronized void publish(String stream, String event, String payload) {
+        lastId = Math.max(lastId + 1, System.currentTimeMillis() * 1000);
+        NotificationBusMessage message = new NotificationBusMessage(lastId, stream, event, payload);
+        listeners.forEach(listener -> listener.accept(message));
+    }
+
+    @Override
+    public void subscribe(Consumer<NotificationBusMessage> listener) {
+        listeners.add(listener);
+    }
+}
@@ -0,0 +1,46 @@
+package com.taskflow.service;
+
+import java.sql.Timestamp;
+import java.util.UUID;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * A named lease in {@code job_leases} that lets one node at a time run a job. The holder
+ * renews it while working and releases it when done; a node that dies leaves it to expire.
+ */
+final class JobLease {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String name;
+    private final long leaseMs;
+    private final String owner = UUID.randomUUID().toString();
+
+    JobLease(JdbcTemplate jdbcTemplate, String name, long leaseMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.name = name;
+        this.leaseMs = leaseMs;
+    }
+
+    /**
+     * Takes the lease, or extends it when this node already holds it. Returns false when
+     * another node holds an unexpired lease.
+     */
+    boolean claim() {
+        long now = System.currentTimeMillis();
+        Timestamp expiresAt = new Timestamp(now + leaseMs);
+        try {
+            jdbcTemplate.update("insert into job_leases (name, owner, expires_at) values (?, ?, ?)", name, owner, expiresAt);
+            return true;
+        } catch (DuplicateKeyException ex) {
+            return jdbcTemplate.update(
+                "update job_leases set owner = ?, expires_at = ? where name = ? and (owner = ? or expires_at < ?)",
+                owner, expiresAt, name, owner, new Timestamp(now)) == 1;
+        }
+    }
+
+    void release() {
+        jdbcTemplate.update("delete from job_leases where name = ? and owner = ?", name, owner);
+    }
+}
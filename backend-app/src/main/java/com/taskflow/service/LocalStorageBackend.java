@@ -0,0 +1,127 @@
+package com.taskflow.service;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HexFormat;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+/**
+ * Stores objects on the local file system under two levels of hash-prefix directories, so no
+ * directory grows past a few hundred entries: a key that starts with hex digits (content hashes,
+ * legacy UUID names) is sharded by its own first four, any other key by a hash of the key.
+ *
+ * Writes land with an atomic rename from the temp directory on the same file system. With
+ * fsync enabled, the file is flushed before the rename and its directory after it, so an
+ * object that is visible has also survived a crash.
+ *
+ * Reads fall back to the key as a plain path under the root, which is where files stored before
+ * sharding still live until {@link StorageMigration} rehomes them.
+ */
+@Service
+@ConditionalOnProperty(name = "app.storage.backend", havingValue = "local", matchIfMissing = true)
+public class LocalStorageBackend implements StorageBackend {
+
+    private static final Pattern HEX_PREFIX = Pattern.compile("[0-9a-f]{4}.*");
+
+    private final Path root;
+    private final boolean fsync;
+
+    public LocalStorageBackend(
+        @Value("${app.storage.local.root:${file.upload-dir:uploads}}") String root,
+        @Value("${app.storage.local.fsync:true}") boolean fsync
+    ) {
+        this.root = Paths.get(root).toAbsolutePath().normalize();
+        this.fsync = fsync;
+    }
+
+    @Override
+    public ObjectInfo stat(String key) throws IOException {
+        Path path = existing(key);
+        if (path == null) {
+            return null;
+        }
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            return new ObjectInfo(attributes.size(), attributes.lastModifiedTime().toMillis());
+        } catch (NoSuchFileException ex) {
+            return null;
+        }
+    }
+
+    @Override
+    public void put(String key, Path source) throws IOException {
+        Path target = sharded(key);
+        Files.createDirectories(target.getParent());
+        if (fsync) {
+            try (FileChannel channel = FileChannel.open(source, StandardOpenOption.WRITE)) {
+                channel.force(true);
+            }
+        }
+        Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        if (fsync) {
+            try (FileChannel directory = FileChannel.open(target.getParent(), StandardOpenOption.READ)) {
+                directory.force(true);
+            } catch (IOException ex) {
+                // Not every platform can open a directory for syncing
+            }
+        }
+    }
+
+    @Override
+    public ReadableByteChannel open(String key, long offset, long length) throws IOException {
+        Path path = existing(key);
+        if (path == null) {
+            throw new NoSuchFileException(key);
+        }
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        channel.position(offset);
+        return channel;
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        Files.deleteIfExists(sharded(key));
+        Files.deleteIfExists(flat(key));
+    }
+
+    private Path existing(String key) {
+        Path sharded = sharded(key);
+        if (Files.exists(sharded)) {
+            return sharded;
+        }
+        Path flat = flat(key);
+        return Files.exists(flat) ? flat : null;
+    }
+
+    private Path sharded(String key) {
+        String prefix = HEX_PREFIX.matcher(key).matches()
+            ? key
+            : HexFormat.of().formatHex(FileUploadService.sha256().digest(key.getBytes(StandardCharsets.UTF_8)));
+        return resolve(prefix.substring(0, 2) + "/" + prefix.substring(2, 4) + "/" + key);
+    }
+
+    private Path flat(String key) {
+        return resolve(key);
+    }
+
+    private Path resolve(String relative) {
+        Path path = root.resolve(relative).normalize();
+        if (!path.startsWith(root)) {
+            throw new IllegalArgumentException("Invalid storage key: " + relative);
+        }
+        return path;
+    }
+}
@@ -0,0 +1,18 @@
+package com.taskflow.service;
+
+import java.util.function.Consumer;
+
+/**
+ * Carries stream events to every node, so a user's streams receive them regardless of which
+ * node produced the event. Selected with {@code app.notifications.bus}.
+ */
+public interface NotificationBus {
+
+    /**
+     * Assigns the event its id and delivers it. Ids increase in the order every node receives
+     * events, so the last id a client saw tells any node exactly what it missed.
+     */
+    void publish(String stream, String event, String payload);
+
+    void subscribe(Consumer<NotificationBusMessage> listener);
+}
@@ -0,0 +1,54 @@
+package com.taskflow.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One event addressed to a stream, such as a user's notification stream or a project's change
+ * stream. The payload is the event data as sent to the browser.
+ */
+public record NotificationBusMessage(long id, String stream, String event, String payload) {
+
+    private static final char SEPARATOR = '\t';
+
+    public String encode() {
+        return id + String.valueOf(SEPARATOR) + stream + SEPARATOR + event + SEPARATOR + payload;
+    }
+
+    /**
+     * The encoded message prefixed with its length, so several can share one transport payload.
+     */
+    public String frame() {
+        String encoded = encode();
+        return encoded.length() + ":" + encoded;
+    }
+
+    /**
+     * Splits a payload of concatenated {@link #frame() frames} back into messages.
+     */
+    public static List<NotificationBusMessage> decodeFrames(String frames) {
+        List<NotificationBusMessage> messages = new ArrayList<>();
+        int position = 0;
+        while (position < frames.length()) {
+            int colon = frames.indexOf(':', position);
+            if (colon < 0) {
+                throw new IllegalArgumentException("Malformed bus message frame");
+            }
+            int end = colon + 1 + Integer.parseInt(frames.substring(position, colon));
+            if (end > frames.length()) {
+                throw new IllegalArgumentException("Truncated bus message frame");
+            }
+            messages.add(decode(frames.substring(colon + 1, end)));
+            position = end;
+        }
+        return messages;
+    }
+
+    public static NotificationBusMessage decode(String encoded) {
+        String[] parts = encoded.split(String.valueOf(SEPARATOR), 4);
+        if (parts.length != 4) {
+            throw new IllegalArgumentException("Malformed bus message");
+        }
+        return new NotificationBusMessage(Long.parseLong(parts[0]), parts[1], parts[2], parts[3]);
+    }
+}
@@ -1,37 +1,124 @@
 package com.taskflow.service;
 
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Service;
 
-import com.taskflow.entity.Notification;
+import com.taskflow.dto.NotificationResponse;
 import com.taskflow.entity.User;
-import com.taskflow.repository.NotificationRepository;
+
+import jakarta.transaction.Transactional;
+import tools.jackson.databind.json.JsonMapper;
 
 @Service
 public class NotificationService {
 
-    private final NotificationRepository notificationRepository;
+    private static final String INSERT_SQL = """
+        insert into notifications (user_id, type, title, message, related_entity_type, related_entity_id, is_read, created_at)
+        values (?, ?, ?, ?, ?, ?, false, ?)
+        """;
+
+    private static final String CREATED_EVENT = "notification.created";
+
     private final NotificationStreamService notificationStreamService;
+    private final UnreadNotificationCounter unreadCounter;
+    private final JdbcTemplate jdbcTemplate;
+    private final JsonMapper jsonMapper;
 
     public NotificationService(
-        NotificationRepository notificationRepository,
-        NotificationStreamService notificationStreamService
+        NotificationStreamService notificationStreamService,
+        UnreadNotificationCounter unreadCounter,
+        JdbcTemplate jdbcTemplate,
+        JsonMapper jsonMapper
     ) {
-        this.notificationRepository = notificationRepository;
         this.notificationStreamService = notificationStreamService;
+        this.unreadCounter = unreadCounter;
+        this.jdbcTemplate = jdbcTemplate;
+        this.jsonMapper = jsonMapper;
     }
 
+    @Transactional
     public void notify(User user, String type, String title, String message, String entityType, Long entityId) {
-        Notification notification = new Notification(
-            user,
-            type,
-            title,
-            message,
-            entityType,
-            entityId
+        notifyAll(List.of(user), type, title, message, entityType, entityId);
+    }
+
+    /**
+     * Sends the same notification to every recipient in one batched insert. Once the transaction
+     * commits, each recipient's streams get the new notification and their bumped unread count.
+     */
+    @Transactional
+    public void notifyAll(
+        Collection<User> recipients,
+        String type,
+        String title,
+        String message,
+        String entityType,
+        Long entityId
+    ) {
+        Set<Long> distinctIds = new LinkedHashSet<>();
+        recipients.forEach(user -> distinctIds.add(user.getId()));
+        if (distinctIds.isEmpty()) {
+            return;
+        }
+        List<Long> userIds = List.copyOf(distinctIds);
+
+        LocalDateTime createdAt = LocalDateTime.now();
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+            connection -> connection.prepareStatement(INSERT_SQL, new String[] {"id"}),
+            new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    ps.setLong(1, userIds.get(i));
+                    ps.setString(2, type);
+                    ps.setString(3, title);
+                    ps.setString(4, message);
+                    ps.setString(5, entityType);
+                    if (entityId != null) {
+                        ps.setLong(6, entityId);
+                    } else {
+                        ps.setNull(6, Types.BIGINT);
+                    }
+                    ps.setTimestamp(7, Timestamp.valueOf(createdAt));
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return userIds.size();
+                }
+            },
+            keys
         );
-        notificationRepository.save(notification);
 
-        int unreadCount = notificationRepository.countByUserIdAndIsReadFalse(user.getId());
-        notificationStreamService.sendUnreadCount(user.getId(), unreadCount);
+        List<Map<String, Object>> generated = keys.getKeyList();
+        String createdAtText = createdAt.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+        TransactionCallbacks.afterCommit(() -> {
+            for (int i = 0; i < userIds.size(); i++) {
+                Long userId = userIds.get(i);
+                if (generated.size() == userIds.size()) {
+                    Long notificationId = ((Number) generated.get(i).get("id")).longValue();
+                    NotificationResponse created = new NotificationResponse(
+                        notificationId, type, title, message, false, createdAtText);
+                    notificationStreamService.sendEvent(userId, CREATED_EVENT, jsonMapper.writeValueAsString(created));
+                }
+                unreadCounter.added(userId, 1);
+                notificationStreamService.sendUnreadChange(userId, 1);
+            }
+        });
     }
+
 }
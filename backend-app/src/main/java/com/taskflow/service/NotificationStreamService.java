@@ -1,57 +1,654 @@
 package com.taskflow.service;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
-import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Delivers events to open SSE connections without blocking the caller: each user's notification
+ * stream, and per-project change streams.
+ *
+ * Callers only enqueue. Each connection has a small bounded queue drained by a shared dispatcher
+ * pool, and unread-count updates are coalesced so a connection only ever sends the latest one.
+ * A heartbeat keeps idle connections alive and surfaces dead peers. Connections whose queue
+ * overflows, or whose socket has accepted no output for the send timeout, are evicted.
+ *
+ * Output uses servlet non-blocking writes: a dispatcher writes only while the socket is ready
+ * and otherwise leaves the connection until the container reports it writable again, so a
+ * client that stops reading costs queue space but never a dispatcher thread.
+ *
+ * Streams are servlet async requests, so an idle connection holds no container thread; with
+ * Tomcat's NIO connector the per-node ceiling is set by server.tomcat.max-connections and the
+ * process file descriptor limit. Connection counts are published as Micrometer gauges.
+ *
+ * Events travel through the {@link NotificationBus}, so a stream receives them whichever node
+ * produced them; each node only delivers to the connections it holds. Unread changes travel as
+ * deltas: every other node applies them to its own {@link UnreadNotificationCounter}, and each
+ * node pushes its own count, so counts agree across nodes without a COUNT query per event.
+ *
+ * Events carry ids assigned by the bus, increasing in the order every node receives them. Named
+ * events are also kept in a bounded per-stream buffer, so a client reconnecting with
+ * Last-Event-ID to any node gets what it missed instead of reloading everything.
+ */
 @Service
-public class NotificationStreamService {
+public class NotificationStreamService implements MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationStreamService.class);
 
-    private final Map<Long, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+    private static final String UNREAD_EVENT = "notification";
+    private static final String RESYNC_EVENT = "resync";
+    private static final String CLOSE_EVENT = "stream.closed";
 
-    public SseEmitter createEmitter(Long userId) {
-        SseEmitter emitter = new SseEmitter(0L);
-        emitters.computeIfAbsent(userId, key -> new CopyOnWriteArrayList<>()).add(emitter);
+    // Keyed by stream: "user:<id>" for notification streams, "project:<id>" for change streams
+    private final Map<String, List<Connection>> connections = new ConcurrentHashMap<>();
+    private final AtomicInteger openConnections = new AtomicInteger();
+    private final AtomicLong evictions = new AtomicLong();
+    private final Map<String, EventRing> rings = new ConcurrentHashMap<>();
+    private final AtomicLong lastDeliveredId = new AtomicLong(-1);
+    // Events with ids below this may have happened without a buffer on this node to hold them:
+    // before the node received its first event, or before an idle stream's buffer was dropped
+    private final AtomicLong coveredFrom = new AtomicLong(Long.MAX_VALUE);
+    private final int queueCapacity;
+    private final long heartbeatIntervalMs;
+    private final long sendTimeoutMs;
+    private final int replayBufferSize;
+    private final long replayRetentionMs;
+    private final ExecutorService dispatcher;
+    private final ScheduledExecutorService heartbeats;
+    private final NotificationBus bus;
+    private final UnreadNotificationCounter unreadCounter;
+    // Tags this node's unread deltas, which it has already applied before publishing them
+    private final String nodeId = UUID.randomUUID().toString();
 
-        emitter.onCompletion(() -> removeEmitter(userId, emitter));
-        emitter.onTimeout(() -> removeEmitter(userId, emitter));
-        emitter.onError(error -> removeEmitter(userId, emitter));
+    public NotificationStreamService(
+        NotificationBus bus,
+        UnreadNotificationCounter unreadCounter,
+        @Value("${app.sse.queue-capacity:32}") int queueCapacity,
+        @Value("${app.sse.dispatcher-threads:4}") int dispatcherThreads,
+        @Value("${app.sse.heartbeat-interval-ms:15000}") long heartbeatIntervalMs,
+        @Value("${app.sse.send-timeout-ms:10000}") long sendTimeoutMs,
+        @Value("${app.sse.replay-buffer-size:32}") int replayBufferSize,
+        @Value("${app.sse.replay-retention-ms:600000}") long replayRetentionMs
+    ) {
+        this.bus = bus;
+        this.unreadCounter = unreadCounter;
+        this.queueCapacity = queueCapacity;
+        this.heartbeatIntervalMs = heartbeatIntervalMs;
+        this.sendTimeoutMs = sendTimeoutMs;
+        // A replay must fit in the connection queue, or the resuming client would be evicted
+        this.replayBufferSize = Math.min(replayBufferSize, queueCapacity);
+        this.replayRetentionMs = replayRetentionMs;
+        this.dispatcher = Executors.newFixedThreadPool(dispatcherThreads, daemonThreads("sse-dispatch-"));
+        this.heartbeats = Executors.newSingleThreadScheduledExecutor(daemonThreads("sse-heartbeat-"));
+    }
+
+    @PostConstruct
+    void start() {
+        bus.subscribe(this::deliver);
+        heartbeats.scheduleWithFixedDelay(this::heartbeat, heartbeatIntervalMs, heartbeatIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("taskflow.sse.connections", openConnections, AtomicInteger::get)
+            .description("Open stream connections")
+            .register(registry);
+        Gauge.builder("taskflow.sse.streams", connections, Map::size)
+            .description("User and project streams with at least one open connection")
+            .register(registry);
+        FunctionCounter.builder("taskflow.sse.evictions", evictions, AtomicLong::get)
+            .description("Connections dropped for falling behind")
+            .register(registry);
+    }
+
+    /**
+     * Ends open streams as soon as shutdown begins; they never finish by themselves, so
+     * graceful shutdown would otherwise wait out its whole timeout on them.
+     */
+    @EventListener(ContextClosedEvent.class)
+    void closeStreams() {
+        connections.values().forEach(list -> list.forEach(Connection::close));
+    }
+
+    @PreDestroy
+    void stop() {
+        heartbeats.shutdownNow();
+        dispatcher.shutdownNow();
+        connections.values().forEach(list -> list.forEach(Connection::close));
+        connections.clear();
+    }
+
+    /**
+     * Opens the user's notification stream. When the client resumes from {@code lastEventId},
+     * buffered events after it are replayed first, or a {@code resync} event is sent if the
+     * buffer no longer reaches back that far. The current unread count always follows.
+     */
+    public void openNotificationStream(
+        HttpServletRequest request,
+        HttpServletResponse response,
+        Long userId,
+        Long lastEventId,
+        int unreadCount
+    ) throws IOException {
+        Connection connection = open(request, response, userStream(userId), userId, lastEventId);
+        connection.offerUnreadCount(null, unreadCount);
+        connection.start();
+    }
+
+    /**
+     * Opens a change stream for a project on behalf of a user whose access was already checked.
+     * Resumes from {@code lastEventId} the same way as the notification stream.
+     */
+    public void openProjectStream(
+        HttpServletRequest request,
+        HttpServletResponse response,
+        Long projectId,
+        Long userId,
+        Long lastEventId
+    ) throws IOException {
+        open(request, response, projectStream(projectId), userId, lastEventId).start();
+    }
+
+    /**
+     * Publishes a change to the user's unread count that this node has already applied to its
+     * counter. Other nodes apply it to theirs, and every node pushes its own count to its streams.
+     */
+    public void sendUnreadChange(Long userId, int delta) {
+        publish(userStream(userId), UNREAD_EVENT, nodeId + ":" + delta);
+    }
 
-        return emitter;
+    /**
+     * Publishes a named event with JSON data to every node holding a stream for the user.
+     * Named events are kept in the replay buffer; unread counts are state and are not.
+     */
+    public void sendEvent(Long userId, String name, String json) {
+        publish(userStream(userId), name, json);
     }
 
-    public void sendUnreadCount(Long userId, int count) {
-        sendEvent(userId, "notification", Map.of("unreadCount", count));
+    public void sendProjectEvent(Long projectId, String name, String json) {
+        publish(projectStream(projectId), name, json);
     }
 
-    private void sendEvent(Long userId, String name, Object data) {
-        List<SseEmitter> userEmitters = emitters.get(userId);
-        if (userEmitters == null) {
+    /**
+     * Ends a project's change streams on every node: only the given user's, or all of them when
+     * {@code userId} is null. Used when access is revoked or the project is deleted.
+     */
+    public void closeProjectStreams(Long projectId, Long userId) {
+        publish(projectStream(projectId), CLOSE_EVENT, userId != null ? userId.toString() : "");
+    }
+
+    private Connection open(
+        HttpServletRequest request,
+        HttpServletResponse response,
+        String stream,
+        Long userId,
+        Long lastEventId
+    ) throws IOException {
+        response.setContentType(MediaType.TEXT_EVENT_STREAM_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        AsyncContext asyncContext = request.startAsync(request, response);
+        asyncContext.setTimeout(0);
+        Connection connection = new Connection(stream, userId, asyncContext, response.getOutputStream());
+        asyncContext.addListener(connection);
+
+        EventRing ring = lastEventId != null ? rings.get(stream) : null;
+        if (lastEventId == null) {
+            register(connection);
+        } else if (ring == null || lastEventId > lastDeliveredId.get()) {
+            // An id past the last one delivered here is from another bus, or from a node this
+            // one has not caught up with; either way the buffer cannot tell what was missed
+            register(connection);
+            if (lastEventId + 1 < coveredFrom.get() || lastEventId > lastDeliveredId.get()) {
+                connection.offer(resyncEvent());
+            }
+        } else {
+            // Registering under the ring lock means each event arrives exactly once,
+            // either in the replay or live
+            synchronized (ring) {
+                register(connection);
+                if (lastEventId + 1 < ring.coveredFrom()) {
+                    connection.offer(resyncEvent());
+                } else {
+                    ring.after(lastEventId).forEach(message -> connection.offer(toEvent(message)));
+                }
+            }
+        }
+        return connection;
+    }
+
+    /**
+     * Publishes are best effort: callers run after their change has committed, so a bus failure
+     * is logged rather than failing the request.
+     */
+    private void publish(String stream, String event, String payload) {
+        try {
+            bus.publish(stream, event, payload);
+        } catch (RuntimeException ex) {
+            logger.warn("Could not publish {} to {}: {}", event, stream, ex.getMessage());
+        }
+    }
+
+    private void deliver(NotificationBusMessage message) {
+        String stream = message.stream();
+        if (!stream.startsWith("user:") && !stream.startsWith("project:")) {
+            // Meant for other subscribers, such as access cache evictions
+            return;
+        }
+        lastDeliveredId.accumulateAndGet(message.id(), Math::max);
+        coveredFrom.compareAndSet(Long.MAX_VALUE, message.id());
+        if (UNREAD_EVENT.equals(message.event())) {
+            Long userId = Long.valueOf(stream.substring(stream.indexOf(':') + 1));
+            String payload = message.payload();
+            int separator = payload.lastIndexOf(':');
+            if (!nodeId.equals(payload.substring(0, separator))) {
+                unreadCounter.applyRemote(userId, Integer.parseInt(payload.substring(separator + 1)));
+            }
+            List<Connection> streamConnections = connections.get(stream);
+            if (streamConnections != null) {
+                int count = unreadCounter.get(userId);
+                streamConnections.forEach(connection -> connection.offerUnreadCount(message.id(), count));
+            }
+            return;
+        }
+        if (CLOSE_EVENT.equals(message.event())) {
+            List<Connection> streamConnections = connections.get(stream);
+            if (streamConnections != null) {
+                String userId = message.payload();
+                streamConnections.stream()
+                    .filter(connection -> userId.isEmpty() || userId.equals(connection.userId.toString()))
+                    .forEach(Connection::close);
+            }
             return;
         }
 
-        for (SseEmitter emitter : userEmitters) {
+        // Every node buffers every stream's events, so a client can resume on any node
+        long now = System.currentTimeMillis();
+        EventRing ring = rings.computeIfAbsent(stream, key -> new EventRing(replayBufferSize, coveredFrom.get()));
+        synchronized (ring) {
+            ring.add(message, now);
+            List<Connection> streamConnections = connections.get(stream);
+            if (streamConnections != null) {
+                streamConnections.forEach(connection -> connection.offer(toEvent(message)));
+            }
+        }
+    }
+
+    private static String userStream(Long userId) {
+        return "user:" + userId;
+    }
+
+    private static String projectStream(Long projectId) {
+        return "project:" + projectId;
+    }
+
+    private static String toEvent(NotificationBusMessage message) {
+        return frame(message.id(), message.event(), message.payload());
+    }
+
+    private static String resyncEvent() {
+        return frame(null, RESYNC_EVENT, "{}");
+    }
+
+    private static String frame(Long id, String name, String data) {
+        StringBuilder frame = new StringBuilder(data.length() + 48);
+        if (id != null) {
+            frame.append("id:").append(id).append('\n');
+        }
+        frame.append("event:").append(name).append('\n');
+        for (String line : data.split("\n", -1)) {
+            frame.append("data:").append(line).append('\n');
+        }
+        return frame.append('\n').toString();
+    }
+
+    private void register(Connection connection) {
+        connections.compute(connection.stream, (key, list) -> {
+            List<Connection> result = list != null ? list : new CopyOnWriteArrayList<>();
+            result.add(connection);
+            return result;
+        });
+        openConnections.incrementAndGet();
+    }
+
+    private void heartbeat() {
+        long now = System.currentTimeMillis();
+        connections.values().forEach(list -> list.forEach(connection -> {
+            long blockedSince = connection.blockedSince;
+            if (blockedSince > 0 && now - blockedSince > sendTimeoutMs) {
+                evictions.incrementAndGet();
+                connection.close();
+            } else {
+                connection.offerHeartbeat();
+            }
+        }));
+        rings.forEach((stream, ring) -> {
+            synchronized (ring) {
+                if (now - ring.lastAppendAt() > replayRetentionMs) {
+                    rings.remove(stream, ring);
+                    // The dropped events can no longer be replayed, whichever stream they were on
+                    coveredFrom.accumulateAndGet(lastDeliveredId.get() + 1, Math::max);
+                }
+            }
+        });
+    }
+
+    public int connectionCount() {
+        return openConnections.get();
+    }
+
+    private void remove(Connection connection) {
+        openConnections.decrementAndGet();
+        connections.computeIfPresent(connection.stream, (key, list) -> {
+            list.remove(connection);
+            return list.isEmpty() ? null : list;
+        });
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Per-connection state, kept to a few words so an idle connection costs little beyond the
+     * async request itself: flags are plain volatile fields driven by field updaters, the unread
+     * count and heartbeat are single coalesced slots, and the event queue is only allocated on use.
+     */
+    private final class Connection implements Runnable, WriteListener, AsyncListener {
+
+        private static final byte[] HEARTBEAT = ":heartbeat\n\n".getBytes(StandardCharsets.UTF_8);
+
+        private static final AtomicReferenceFieldUpdater<Connection, PendingUnread> PENDING_UNREAD =
+            AtomicReferenceFieldUpdater.newUpdater(Connection.class, PendingUnread.class, "pendingUnread");
+        private static final AtomicIntegerFieldUpdater<Connection> HEARTBEAT_DUE =
+            AtomicIntegerFieldUpdater.newUpdater(Connection.class, "heartbeatDue");
+        private static final AtomicIntegerFieldUpdater<Connection> SCHEDULED =
+            AtomicIntegerFieldUpdater.newUpdater(Connection.class, "scheduled");
+        private static final AtomicIntegerFieldUpdater<Connection> CLOSED =
+            AtomicIntegerFieldUpdater.newUpdater(Connection.class, "closed");
+
+        private final String stream;
+        // The subscriber, so revoking a member can end just their project streams
+        private final Long userId;
+        private final AsyncContext asyncContext;
+        private final ServletOutputStream out;
+        // Guarded by this, null until the first queued event
+        private Queue<String> events;
+        volatile PendingUnread pendingUnread;
+        volatile int heartbeatDue;
+        volatile int scheduled;
+        volatile int closed;
+        // When the socket last refused output, 0 while it is writable. Nothing is dispatched
+        // while it is set; the container's onWritePossible clears it.
+        volatile long blockedSince;
+        // Output written but not flushed; only touched by the running dispatch
+        private boolean unflushed = true;
+
+        Connection(String stream, Long userId, AsyncContext asyncContext, ServletOutputStream out) {
+            this.stream = stream;
+            this.userId = userId;
+            this.asyncContext = asyncContext;
+            this.out = out;
+            // Not writable until the write listener is installed and the container says so
+            this.blockedSince = System.currentTimeMillis();
+        }
+
+        /**
+         * Switches the response to non-blocking output; the container then calls
+         * {@link #onWritePossible()}, which sends the headers and anything already queued.
+         */
+        void start() {
+            out.setWriteListener(this);
+        }
+
+        void offerUnreadCount(Long eventId, int count) {
+            PENDING_UNREAD.set(this, new PendingUnread(eventId, count));
+            schedule();
+        }
+
+        void offerHeartbeat() {
+            HEARTBEAT_DUE.set(this, 1);
+            schedule();
+        }
+
+        void offer(String event) {
+            synchronized (this) {
+                if (events == null) {
+                    events = new ArrayDeque<>(4);
+                } else if (events.size() >= queueCapacity) {
+                    evictions.incrementAndGet();
+                    close();
+                    return;
+                }
+                events.add(event);
+            }
+            schedule();
+        }
+
+        boolean isClosed() {
+            return closed != 0;
+        }
+
+        private void schedule() {
+            if (isClosed() || blockedSince != 0 || !SCHEDULED.compareAndSet(this, 0, 1)) {
+                return;
+            }
             try {
-                emitter.send(SseEmitter.event().name(name).data(data));
-            } catch (IOException ex) {
-                removeEmitter(userId, emitter);
+                dispatcher.execute(this);
+            } catch (RejectedExecutionException ex) {
+                scheduled = 0;
             }
         }
+
+        @Override
+        public void run() {
+            try {
+                while (!isClosed()) {
+                    // Marked before asking, so an onWritePossible racing the answer is not lost
+                    blockedSince = System.currentTimeMillis();
+                    if (!out.isReady()) {
+                        break;
+                    }
+                    blockedSince = 0;
+                    byte[] next = poll();
+                    if (next != null) {
+                        out.write(next);
+                        unflushed = true;
+                    } else if (unflushed) {
+                        unflushed = false;
+                        out.flush();
+                    } else {
+                        break;
+                    }
+                }
+            } catch (IOException | IllegalStateException ex) {
+                close();
+                return;
+            } finally {
+                scheduled = 0;
+            }
+            // Something may have been offered after the last poll but before the flag cleared
+            if (unflushed || hasPending()) {
+                schedule();
+            }
+        }
+
+        @Override
+        public void onWritePossible() {
+            blockedSince = 0;
+            schedule();
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            close();
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            close();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            close();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            close();
+            // The container only skips its error page when a listener completes the request
+            complete();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+
+        private byte[] poll() {
+            PendingUnread unread = PENDING_UNREAD.getAndSet(this, null);
+            if (unread != null) {
+                return utf8(frame(unread.eventId(), UNREAD_EVENT, "{\"unreadCount\":" + unread.count() + "}"));
+            }
+            synchronized (this) {
+                if (events != null && !events.isEmpty()) {
+                    // Anything queued proves liveness as well as a heartbeat would
+                    heartbeatDue = 0;
+                    return utf8(events.poll());
+                }
+            }
+            if (HEARTBEAT_DUE.getAndSet(this, 0) != 0) {
+                return HEARTBEAT;
+            }
+            return null;
+        }
+
+        private boolean hasPending() {
+            if (pendingUnread != null || heartbeatDue != 0) {
+                return true;
+            }
+            synchronized (this) {
+                return events != null && !events.isEmpty();
+            }
+        }
+
+        void close() {
+            if (!CLOSED.compareAndSet(this, 0, 1)) {
+                return;
+            }
+            remove(this);
+            synchronized (this) {
+                events = null;
+            }
+            complete();
+        }
+
+        private void complete() {
+            try {
+                asyncContext.complete();
+            } catch (IllegalStateException ex) {
+                // Already completed
+            }
+        }
+
+        private static byte[] utf8(String frame) {
+            return frame.getBytes(StandardCharsets.UTF_8);
+        }
     }
 
-    private void removeEmitter(Long userId, SseEmitter emitter) {
-        List<SseEmitter> userEmitters = emitters.get(userId);
-        if (userEmitters == null) {
-            return;
+    private record PendingUnread(Long eventId, int count) {
+    }
+
+    /**
+     * The most recent named events for one stream, oldest first. Guarded by its own monitor.
+     */
+    private static final class EventRing {
+
+        private final NotificationBusMessage[] slots;
+        private int next;
+        private int size;
+        // Events with ids below this are not in the buffer: evicted, or never seen here
+        private long coveredFrom;
+        private long lastAppendAt;
+
+        EventRing(int capacity, long coveredFrom) {
+            this.slots = new NotificationBusMessage[capacity];
+            this.coveredFrom = coveredFrom;
+        }
+
+        void add(NotificationBusMessage message, long now) {
+            if (size == slots.length) {
+                coveredFrom = Math.max(coveredFrom, slots[next].id() + 1);
+            } else {
+                size++;
+            }
+            slots[next] = message;
+            next = (next + 1) % slots.length;
+            lastAppendAt = now;
+        }
+
+        List<NotificationBusMessage> after(long eventId) {
+            List<NotificationBusMessage> result = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                NotificationBusMessage message = slots[(next - size + i + slots.length) % slots.length];
+                if (message.id() > eventId) {
+                    result.add(message);
+                }
+            }
+            return result;
+        }
+
+        long coveredFrom() {
+            return coveredFrom;
         }
-        userEmitters.remove(emitter);
-        if (userEmitters.isEmpty()) {
-            emitters.remove(userId);
+
+        long lastAppendAt() {
+            return lastAppendAt;
         }
     }
 }
@@ -0,0 +1,236 @@
+package com.taskflow.service;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+import javax.sql.DataSource;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Cluster bus over Postgres LISTEN/NOTIFY. Every node listens on one channel over a dedicated
+ * connection, and a publish is a {@code pg_notify} that Postgres delivers to all listeners,
+ * the publishing node included. The listening connection is opened outside the pool, since it
+ * is held for the life of the node; {@code app.notifications.bus-listen-url} can point it past
+ * a transaction-pooling proxy, which does not support LISTEN.
+ *
+ * Publishing only queues the event; callers never touch the database. One publisher thread per
+ * node drains the queue in batches, and each batch takes a range of ids from the
+ * {@code notification_event_seq} sequence and sends its NOTIFYs in one transaction holding an
+ * advisory lock. Ids are therefore assigned in commit order, which is the order Postgres
+ * delivers notifications to every listener. Several events share one NOTIFY payload, so a
+ * batch costs a few statements however many events it carries. When the queue is full, or a
+ * batch fails, those events are dropped with a warning, as publishes are best effort.
+ *
+ * Messages published while a node is reconnecting are not replayed to it; unread counts heal
+ * on the next update or the counter reconcile.
+ */
+@Service
+@ConditionalOnProperty(name = "app.notifications.bus", havingValue = "postgres")
+public class PostgresNotificationBus implements NotificationBus {
+
+    private static final Logger logger = LoggerFactory.getLogger(PostgresNotificationBus.class);
+
+    private static final Pattern CHANNEL_NAME = Pattern.compile("[a-z_][a-z0-9_]*");
+    // Postgres rejects NOTIFY payloads of 8000 bytes or more
+    private static final int MAX_PAYLOAD_BYTES = 7999;
+    private static final int POLL_TIMEOUT_MS = 500;
+    private static final int MAX_BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transaction;
+    private final String listenUrl;
+    private final String username;
+    private final String password;
+    private final String channel;
+    private final long reconnectDelayMs;
+    private final List<Consumer<NotificationBusMessage>> listeners = new CopyOnWriteArrayList<>();
+    private final BlockingQueue<Outgoing> outbox;
+    private volatile boolean running;
+    private Thread listenerThread;
+    private Thread publisherThread;
+
+    public PostgresNotificationBus(
+        DataSource dataSource,
+        @Value("${app.notifications.bus-listen-url:${spring.datasource.url}}") String listenUrl,
+        @Value("${spring.datasource.username:}") String username,
+        @Value("${spring.datasource.password:}") String password,
+        @Value("${app.notifications.bus-channel:taskflow_notifications}") String channel,
+        @Value("${app.notifications.bus-reconnect-delay-ms:2000}") long reconnectDelayMs,
+        @Value("${app.notifications.bus-queue-capacity:10000}") int queueCapacity
+    ) {
+        if (!CHANNEL_NAME.matcher(channel).matches()) {
+            throw new IllegalArgumentException("Invalid notification channel name: " + channel);
+        }
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        this.outbox = new ArrayBlockingQueue<>(queueCapacity);
+        this.listenUrl = listenUrl;
+        this.username = username;
+        this.password = password;
+        this.channel = channel;
+        this.reconnectDelayMs = reconnectDelayMs;
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        listenerThread = new Thread(this::listen, "notification-bus-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+        publisherThread = new Thread(this::publishQueued, "notification-bus-publisher");
+        publisherThread.setDaemon(true);
+        publisherThread.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        listenerThread.interrupt();
+        listenerThread.join(POLL_TIMEOUT_MS * 4L);
+        // The publisher sends what is still queued before it exits
+        publisherThread.join(POLL_TIMEOUT_MS * 4L);
+    }
+
+    @Override
+    public void publish(String stream, String event, String payload) {
+        // Checked with the longest possible id, so any batch can carry the message
+        String largest = new NotificationBusMessage(Long.MIN_VALUE, stream, event, payload).frame();
+        if (largest.getBytes(StandardCharsets.UTF_8).length > MAX_PAYLOAD_BYTES) {
+            throw new IllegalArgumentException("Bus message too large for NOTIFY");
+        }
+        if (!outbox.offer(new Outgoing(stream, event, payload))) {
+            throw new IllegalStateException("Notification bus queue is full");
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<NotificationBusMessage> listener) {
+        listeners.add(listener);
+    }
+
+    private void publishQueued() {
+        List<Outgoing> batch = new ArrayList<>(MAX_BATCH_SIZE);
+        while (running || !outbox.isEmpty()) {
+            try {
+                Outgoing first = outbox.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                outbox.drainTo(batch, MAX_BATCH_SIZE - 1);
+                send(batch);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException ex) {
+                logger.warn("Could not publish {} bus messages: {}", batch.size(), ex.getMessage());
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void send(List<Outgoing> batch) {
+        transaction.executeWithoutResult(status -> {
+            // Released at commit, after the NOTIFYs are queued
+            jdbcTemplate.query("select pg_advisory_xact_lock(hashtext(?))", rs -> null, channel);
+            // Nobody else can draw from the sequence while the lock is held, so this reserves a range
+            Long last = jdbcTemplate.queryForObject(
+                "select setval('notification_event_seq', nextval('notification_event_seq') + ? - 1)",
+                Long.class, batch.size());
+            long id = last - batch.size() + 1;
+
+            StringBuilder payload = new StringBuilder();
+            int payloadBytes = 0;
+            for (Outgoing outgoing : batch) {
+                String frame = new NotificationBusMessage(id++, outgoing.stream(), outgoing.event(), outgoing.payload()).frame();
+                int frameBytes = frame.getBytes(StandardCharsets.UTF_8).length;
+                if (payloadBytes + frameBytes > MAX_PAYLOAD_BYTES) {
+                    jdbcTemplate.query("select pg_notify(?, ?)", rs -> null, channel, payload.toString());
+                    payload.setLength(0);
+                    payloadBytes = 0;
+                }
+                payload.append(frame);
+                payloadBytes += frameBytes;
+            }
+            jdbcTemplate.query("select pg_notify(?, ?)", rs -> null, channel, payload.toString());
+        });
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(listenUrl, username, password)) {
+                connection.setAutoCommit(true);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MS);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            dispatch(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException ex) {
+                if (!running) {
+                    return;
+                }
+                logger.warn("Notification bus listener lost its connection, retrying: {}", ex.getMessage());
+                try {
+                    Thread.sleep(reconnectDelayMs);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void dispatch(String payload) {
+        List<NotificationBusMessage> messages;
+        try {
+            messages = NotificationBusMessage.decodeFrames(payload);
+        } catch (RuntimeException ex) {
+            logger.warn("Ignoring malformed notification bus message");
+            return;
+        }
+        for (NotificationBusMessage message : messages) {
+            for (Consumer<NotificationBusMessage> listener : listeners) {
+                try {
+                    listener.accept(message);
+                } catch (RuntimeException ex) {
+                    logger.error("Notification bus listener failed", ex);
+                }
+            }
+        }
+    }
+
+    private record Outgoing(String stream, String event, String payload) {
+    }
+}
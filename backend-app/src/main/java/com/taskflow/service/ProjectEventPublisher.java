@@ -0,0 +1,95 @@
+package com.taskflow.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import org.springframework.stereotype.Service;
+
+import com.taskflow.dto.CommentResponse;
+import com.taskflow.dto.ProjectMemberResponse;
+import com.taskflow.dto.TaskAssigneeResponse;
+import com.taskflow.dto.TaskResponse;
+import com.taskflow.entity.Task.Priority;
+import com.taskflow.entity.Task.Status;
+
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Publishes compact deltas to a project's change stream so open boards can patch their state
+ * instead of polling the task list. Events go out once the surrounding transaction commits, so
+ * a client never sees a change that was rolled back.
+ *
+ * Task and comment events carry ids and bounded fields only; unbounded text such as a task
+ * description or comment body is left out, so every event fits in one bus message, and clients
+ * fetch it when they need it.
+ */
+@Service
+public class ProjectEventPublisher {
+
+    private final NotificationStreamService streamService;
+    private final JsonMapper jsonMapper;
+
+    public ProjectEventPublisher(NotificationStreamService streamService, JsonMapper jsonMapper) {
+        this.streamService = streamService;
+        this.jsonMapper = jsonMapper;
+    }
+
+    public void taskCreated(Long projectId, TaskResponse task) {
+        publish(projectId, "task.created", TaskChange.of(task));
+    }
+
+    public void taskUpdated(Long projectId, TaskResponse task) {
+        publish(projectId, "task.updated", TaskChange.of(task));
+    }
+
+    public void taskDeleted(Long projectId, Long taskId) {
+        publish(projectId, "task.deleted", Map.of("id", taskId));
+    }
+
+    public void taskAssigned(Long projectId, Long taskId, TaskAssigneeResponse assignee) {
+        publish(projectId, "task.assigned", Map.of("taskId", taskId, "assignee", assignee));
+    }
+
+    public void taskUnassigned(Long projectId, Long taskId, Long userId) {
+        publish(projectId, "task.unassigned", Map.of("taskId", taskId, "userId", userId));
+    }
+
+    public void commentAdded(Long projectId, Long taskId, CommentResponse comment) {
+        publish(projectId, "comment.added", Map.of("taskId", taskId, "comment", CommentChange.of(comment)));
+    }
+
+    public void memberChanged(Long projectId, ProjectMemberResponse member) {
+        publish(projectId, "member.changed", member);
+    }
+
+    /**
+     * Tells the project's subscribers a member left, then ends that member's own streams.
+     */
+    public void memberRemoved(Long projectId, Long userId) {
+        publish(projectId, "member.removed", Map.of("id", userId));
+        TransactionCallbacks.afterCommit(() -> streamService.closeProjectStreams(projectId, userId));
+    }
+
+    public void projectDeleted(Long projectId) {
+        publish(projectId, "project.deleted", Map.of("id", projectId));
+        TransactionCallbacks.afterCommit(() -> streamService.closeProjectStreams(projectId, null));
+    }
+
+    private void publish(Long projectId, String event, Object data) {
+        String json = jsonMapper.writeValueAsString(data);
+        TransactionCallbacks.afterCommit(() -> streamService.sendProjectEvent(projectId, event, json));
+    }
+
+    record TaskChange(Long id, String title, Status status, Priority priority, LocalDate dueDate) {
+        static TaskChange of(TaskResponse task) {
+            return new TaskChange(task.id(), task.title(), task.status(), task.priority(), task.dueDate());
+        }
+    }
+
+    record CommentChange(Long id, String authorEmail, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        static CommentChange of(CommentResponse comment) {
+            return new CommentChange(comment.id(), comment.authorEmail(), comment.createdAt(), comment.updatedAt());
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.taskflow.service;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.taskflow.entity.ProjectTaskStats;
+import com.taskflow.entity.Task;
+import com.taskflow.repository.ProjectTaskStatsRepository;
+
+import jakarta.transaction.Transactional;
+
+/**
+ * Keeps the per-project task counters in {@code project_task_stats} in step with the task table.
+ *
+ * Mutations apply atomic deltas. A periodic reconciler recounts projects in small batches, each in
+ * its own short transaction, to correct drift without holding every project's row at once. A daily
+ * roll-over recounts overdue tasks once their due date has passed.
+ */
+@Service
+public class ProjectTaskStatsService {
+
+    private final ProjectTaskStatsRepository statsRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transaction;
+    private final int reconcileBatchSize;
+
+    public ProjectTaskStatsService(
+        ProjectTaskStatsRepository statsRepository,
+        JdbcTemplate jdbcTemplate,
+        PlatformTransactionManager transactionManager,
+        @Value("${app.stats.reconcile-batch-size:100}") int reconcileBatchSize
+    ) {
+        this.statsRepository = statsRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.reconcileBatchSize = reconcileBatchSize;
+    }
+
+    @Transactional
+    public void projectCreated(Long projectId) {
+        statsRepository.save(new ProjectTaskStats(projectId, LocalDate.now()));
+    }
+
+    @Transactional
+    public void projectDeleted(Long projectId) {
+        statsRepository.deleteById(projectId);
+    }
+
+    @Transactional
+    public void taskCreated(Task task) {
+        recordChange(task.getProject().getId(), null, null, task.getStatus(), task.getDueDate());
+    }
+
+    @Transactional
+    public void taskDeleted(Task task) {
+        recordChange(task.getProject().getId(), task.getStatus(), task.getDueDate(), null, null);
+    }
+
+    /**
+     * Applies the counter delta for a task moving from one state to another. A null status on
+     * either side stands for a task that did not exist before, or no longer exists after.
+     */
+    @Transactional
+    public void recordChange(
+        Long projectId,
+        Task.Status oldStatus,
+        LocalDate oldDueDate,
+        Task.Status newStatus,
+        LocalDate newDueDate
+    ) {
+        LocalDate today = LocalDate.now();
+        long[] delta = new long[Task.Status.values().length];
+        long total = 0;
+        long overdue = 0;
+        if (oldStatus != null) {
+            total--;
+            delta[oldStatus.ordinal()]--;
+            overdue -= isOverdue(oldStatus, oldDueDate, today) ? 1 : 0;
+        }
+        if (newStatus != null) {
+            total++;
+            delta[newStatus.ordinal()]++;
+            overdue += isOverdue(newStatus, newDueDate, today) ? 1 : 0;
+        }
+
+        int updated = statsRepository.applyDelta(
+            projectId,
+            total,
+            delta[Task.Status.TODO.ordinal()],
+            delta[Task.Status.IN_PROGRESS.ordinal()],
+            delta[Task.Status.DONE.ordinal()],
+            overdue
+        );
+        if (updated == 0) {
+            recompute(projectId);
+        }
+    }
+
+    /**
+     * Creates the project's counters if they are missing and recounts them. Concurrent
+     * recomputes of one project queue on its project row, so the second finds the counters
+     * the first created instead of inserting them again.
+     */
+    @Transactional
+    public void recompute(Long projectId) {
+        LocalDate today = LocalDate.now();
+        jdbcTemplate.query("select id from project where id = ? for update", rs -> null, projectId);
+        jdbcTemplate.update("""
+            insert into project_task_stats (project_id, total, todo, in_progress, done, overdue, overdue_as_of)
+            select ?, 0, 0, 0, 0, 0, ? where not exists (select 1 from project_task_stats where project_id = ?)
+            """, projectId, today, projectId);
+        recount(List.of(projectId), today);
+    }
+
+    @Scheduled(
+        fixedDelayString = "${app.stats.reconcile-interval-ms:900000}",
+        initialDelayString = "${app.stats.reconcile-interval-ms:900000}"
+    )
+    public void reconcile() {
+        LocalDate today = LocalDate.now();
+        transaction.executeWithoutResult(status -> statsRepository.insertMissing(today));
+        Long after = 0L;
+        List<Long> batch;
+        do {
+            batch = statsRepository.findProjectIdsAfter(after, PageRequest.of(0, reconcileBatchSize));
+            if (!batch.isEmpty()) {
+                List<Long> projectIds = batch;
+                transaction.executeWithoutResult(status -> recount(projectIds, today));
+                after = batch.get(batch.size() - 1);
+            }
+        } while (batch.size() == reconcileBatchSize);
+    }
+
+    @Scheduled(cron = "${app.stats.overdue-rollover-cron:0 0 0 * * *}")
+    @Transactional
+    public void rollOverdue() {
+        statsRepository.rollOverdue(LocalDate.now(), Task.Status.DONE);
+    }
+
+    public ProjectTaskStatsRepository.Totals totalsForUser(Long userId) {
+        return statsRepository.sumForUser(userId);
+    }
+
+    private void recount(List<Long> projectIds, LocalDate today) {
+        statsRepository.recount(projectIds, today, Task.Status.TODO, Task.Status.IN_PROGRESS, Task.Status.DONE);
+    }
+
+    private boolean isOverdue(Task.Status status, LocalDate dueDate, LocalDate today) {
+        return status != Task.Status.DONE && dueDate != null && dueDate.isBefore(today);
+    }
+}
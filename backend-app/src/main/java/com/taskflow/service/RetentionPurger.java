@@ -0,0 +1,161 @@
+package com.taskflow.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Deletes notifications and activity entries past their retention age.
+ *
+ * Each table is purged in small chunks: a chunk's ids are picked oldest first through an index
+ * on the age column, then deleted by primary key in their own short transaction, with a pause
+ * between chunks so the purge never holds locks for long or starves request traffic. A run
+ * stops after a fixed number of chunks and the next run picks up the backlog.
+ *
+ * Runs on its own thread rather than the shared scheduler, so the pauses between chunks never
+ * hold up other scheduled jobs. Only one node purges at a time: a run holds a lease in
+ * {@code job_leases}, renewed after every chunk, and nodes that find it taken skip the run.
+ *
+ * Only read notifications are purged, so unread counts are unaffected. A max age of 0 turns
+ * that table's policy off.
+ */
+@Service
+public class RetentionPurger {
+
+    private static final Logger logger = LoggerFactory.getLogger(RetentionPurger.class);
+
+    private static final String LEASE = "retention-purge";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final List<Policy> policies;
+    private final int batchSize;
+    private final long pauseMs;
+    private final int maxBatchesPerRun;
+    private final long intervalMs;
+    private final long initialDelayMs;
+    private final JobLease lease;
+    private final ScheduledExecutorService runner;
+
+    public RetentionPurger(
+        JdbcTemplate jdbcTemplate,
+        @Value("${app.retention.notifications.read-max-age-days:30}") int readNotificationMaxAgeDays,
+        @Value("${app.retention.activity-logs.max-age-days:365}") int activityMaxAgeDays,
+        @Value("${app.retention.batch-size:500}") int batchSize,
+        @Value("${app.retention.pause-ms:100}") long pauseMs,
+        @Value("${app.retention.max-batches-per-run:200}") int maxBatchesPerRun,
+        @Value("${app.retention.interval-ms:3600000}") long intervalMs,
+        @Value("${app.retention.initial-delay-ms:600000}") long initialDelayMs,
+        @Value("${app.retention.lease-ms:600000}") long leaseMs
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.policies = List.of(
+            new Policy("notifications", "is_read = true and created_at < ?", readNotificationMaxAgeDays),
+            new Policy("activity_logs", "created_at < ?", activityMaxAgeDays)
+        );
+        this.batchSize = batchSize;
+        this.pauseMs = pauseMs;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.intervalMs = intervalMs;
+        this.initialDelayMs = initialDelayMs;
+        this.lease = new JobLease(jdbcTemplate, LEASE, leaseMs);
+        this.runner = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "retention-purger");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PostConstruct
+    void start() {
+        runner.scheduleWithFixedDelay(this::purge, initialDelayMs, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        runner.shutdownNow();
+    }
+
+    public void purge() {
+        try {
+            if (!lease.claim()) {
+                logger.debug("Retention purge is running on another node, skipping");
+                return;
+            }
+        } catch (RuntimeException ex) {
+            logger.error("Could not claim the retention purge lease", ex);
+            return;
+        }
+        try {
+            purgeAll();
+        } finally {
+            lease.release();
+        }
+    }
+
+    private void purgeAll() {
+        for (Policy policy : policies) {
+            if (policy.maxAgeDays() <= 0) {
+                continue;
+            }
+            try {
+                if (!lease.claim()) {
+                    logger.warn("Retention purge lost its lease, stopping");
+                    return;
+                }
+                int deleted = purge(policy, LocalDateTime.now().minusDays(policy.maxAgeDays()));
+                if (deleted > 0) {
+                    logger.info("Purged {} rows from {}", deleted, policy.table());
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException ex) {
+                logger.error("Retention purge of {} failed", policy.table(), ex);
+            }
+        }
+    }
+
+    /**
+     * Purges one table up to the per-run chunk limit and returns the rows deleted.
+     */
+    private int purge(Policy policy, LocalDateTime cutoff) throws InterruptedException {
+        String selectSql = "select id from " + policy.table() + " where " + policy.condition()
+            + " order by created_at, id limit ?";
+        Timestamp cutoffAt = Timestamp.valueOf(cutoff);
+        int deleted = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            List<Long> ids = jdbcTemplate.queryForList(selectSql, Long.class, cutoffAt, batchSize);
+            if (ids.isEmpty()) {
+                break;
+            }
+            String placeholders = String.join(",", Collections.nCopies(ids.size(), "?"));
+            deleted += jdbcTemplate.update(
+                "delete from " + policy.table() + " where id in (" + placeholders + ")", ids.toArray());
+            if (ids.size() < batchSize) {
+                break;
+            }
+            if (!lease.claim()) {
+                // The next policy finds the lease gone too and ends the run
+                break;
+            }
+            Thread.sleep(pauseMs);
+        }
+        return deleted;
+    }
+
+    private record Policy(String table, String condition, int maxAgeDays) {
+    }
+}
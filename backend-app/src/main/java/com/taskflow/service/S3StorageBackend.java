@@ -0,0 +1,128 @@
+package com.taskflow.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PreDestroy;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+/**
+ * Stores objects in an S3-compatible bucket. Setting an endpoint with path-style access points
+ * it at a local stand-in such as MinIO; without access keys the default AWS credential chain
+ * is used.
+ *
+ * Each put is a single PutObject, which S3 applies atomically; objects are limited to the
+ * 5 GB single-request maximum, above the upload size limit.
+ */
+@Service
+@ConditionalOnProperty(name = "app.storage.backend", havingValue = "s3")
+public class S3StorageBackend implements StorageBackend {
+
+    private static final int NOT_FOUND = 404;
+
+    private final S3Client client;
+    private final String bucket;
+    private final String prefix;
+
+    public S3StorageBackend(
+        @Value("${app.storage.s3.bucket}") String bucket,
+        @Value("${app.storage.s3.region:us-east-1}") String region,
+        @Value("${app.storage.s3.endpoint:}") String endpoint,
+        @Value("${app.storage.s3.path-style:false}") boolean pathStyle,
+        @Value("${app.storage.s3.access-key:}") String accessKey,
+        @Value("${app.storage.s3.secret-key:}") String secretKey,
+        @Value("${app.storage.s3.prefix:}") String prefix
+    ) {
+        AwsCredentialsProvider credentials = accessKey.isBlank()
+            ? DefaultCredentialsProvider.builder().build()
+            : StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey));
+        S3ClientBuilder builder = S3Client.builder()
+            .region(Region.of(region))
+            .credentialsProvider(credentials)
+            .forcePathStyle(pathStyle);
+        if (!endpoint.isBlank()) {
+            builder.endpointOverride(URI.create(endpoint));
+        }
+        this.client = builder.build();
+        this.bucket = bucket;
+        this.prefix = prefix.isBlank() || prefix.endsWith("/") ? prefix : prefix + "/";
+    }
+
+    @PreDestroy
+    void close() {
+        client.close();
+    }
+
+    @Override
+    public ObjectInfo stat(String key) throws IOException {
+        try {
+            HeadObjectResponse head = client.headObject(request -> request.bucket(bucket).key(objectKey(key)));
+            return new ObjectInfo(head.contentLength(), head.lastModified().toEpochMilli());
+        } catch (S3Exception ex) {
+            if (ex.statusCode() == NOT_FOUND) {
+                return null;
+            }
+            throw new IOException("Could not read " + key + " from storage", ex);
+        }
+    }
+
+    @Override
+    public void put(String key, Path source) throws IOException {
+        try {
+            client.putObject(request -> request.bucket(bucket).key(objectKey(key)), RequestBody.fromFile(source));
+        } catch (S3Exception ex) {
+            throw new IOException("Could not write " + key + " to storage", ex);
+        }
+        Files.deleteIfExists(source);
+    }
+
+    @Override
+    public ReadableByteChannel open(String key, long offset, long length) throws IOException {
+        if (length <= 0) {
+            return Channels.newChannel(InputStream.nullInputStream());
+        }
+        try {
+            return Channels.newChannel(client.getObject(request -> request
+                .bucket(bucket)
+                .key(objectKey(key))
+                .range("bytes=" + offset + "-" + (offset + length - 1))));
+        } catch (S3Exception ex) {
+            if (ex.statusCode() == NOT_FOUND) {
+                throw new NoSuchFileException(key);
+            }
+            throw new IOException("Could not read " + key + " from storage", ex);
+        }
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        try {
+            client.deleteObject(request -> request.bucket(bucket).key(objectKey(key)));
+        } catch (S3Exception ex) {
+            throw new IOException("Could not delete " + key + " from storage", ex);
+        }
+    }
+
+    private String objectKey(String key) {
+        return prefix + key;
+    }
+}
@@ -0,0 +1,42 @@
+package com.taskflow.service;
+
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+
+/**
+ * Where attachment bytes live. Keys are relative names chosen by {@link FileUploadService};
+ * how they map to files or objects is up to the backend.
+ *
+ * Writes always go through a complete local file, so every backend can make a write appear
+ * atomically: an object either exists with all its bytes or not at all.
+ */
+public interface StorageBackend {
+
+    /**
+     * Size and modification time of a stored object, or null when there is none.
+     */
+    ObjectInfo stat(String key) throws IOException;
+
+    default boolean exists(String key) throws IOException {
+        return stat(key) != null;
+    }
+
+    /**
+     * Stores the finished local file under the key, replacing any existing object. The source
+     * file is consumed: moved into place or deleted once copied.
+     */
+    void put(String key, Path source) throws IOException;
+
+    /**
+     * Reads {@code length} bytes starting at {@code offset}. Local backends return a
+     * {@link java.nio.channels.FileChannel} already positioned there, which callers may use
+     * for zero-copy transfers.
+     */
+    ReadableByteChannel open(String key, long offset, long length) throws IOException;
+
+    void delete(String key) throws IOException;
+
+    record ObjectInfo(long size, long lastModifiedMillis) {
+    }
+}
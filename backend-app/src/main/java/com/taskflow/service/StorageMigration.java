@@ -0,0 +1,119 @@
+package com.taskflow.service;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.taskflow.entity.FileAttachment;
+import com.taskflow.repository.FileAttachmentRepository;
+
+/**
+ * One-off rehoming of attachments stored under older layouts: flat {@code UUID_name} files and
+ * {@code blobs/ab/cd/<hash>} paths are moved to content keys in the configured backend. Enabled
+ * with {@code app.storage.migrate-legacy=true}; rows already on content keys are skipped, so
+ * running it again after an interruption only picks up what is left.
+ *
+ * Only one node migrates at a time: the run holds a lease in {@code job_leases}, renewed after
+ * every batch, and nodes that find it taken skip the migration. A node that dies mid-run
+ * leaves the lease to expire, after which a restart picks the work up.
+ */
+@Component
+@ConditionalOnProperty(name = "app.storage.migrate-legacy", havingValue = "true")
+public class StorageMigration implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(StorageMigration.class);
+
+    private static final Pattern CONTENT_KEY = Pattern.compile("[0-9a-f]{64}");
+    private static final String LEASE = "storage-migration";
+
+    private final FileAttachmentRepository fileAttachmentRepository;
+    private final FileUploadService fileUploadService;
+    private final ThumbnailService thumbnailService;
+    private final Path legacyRoot;
+    private final int batchSize;
+    private final JobLease lease;
+
+    public StorageMigration(
+        FileAttachmentRepository fileAttachmentRepository,
+        FileUploadService fileUploadService,
+        ThumbnailService thumbnailService,
+        JdbcTemplate jdbcTemplate,
+        @Value("${app.storage.migration.legacy-dir:${file.upload-dir:uploads}}") String legacyDir,
+        @Value("${app.storage.migration.batch-size:500}") int batchSize,
+        @Value("${app.storage.migration.lease-ms:600000}") long leaseMs
+    ) {
+        this.fileAttachmentRepository = fileAttachmentRepository;
+        this.fileUploadService = fileUploadService;
+        this.thumbnailService = thumbnailService;
+        this.legacyRoot = Paths.get(legacyDir);
+        this.batchSize = batchSize;
+        this.lease = new JobLease(jdbcTemplate, LEASE, leaseMs);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!lease.claim()) {
+            logger.info("Storage migration is running on another node, skipping");
+            return;
+        }
+        try {
+            migrate();
+        } finally {
+            lease.release();
+        }
+    }
+
+    private void migrate() {
+        int moved = 0;
+        int missing = 0;
+        int failed = 0;
+        long lastId = 0;
+        List<FileAttachment> batch;
+        do {
+            batch = fileAttachmentRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, batchSize));
+            for (FileAttachment attachment : batch) {
+                lastId = attachment.getId();
+                String storagePath = attachment.getStoragePath();
+                if (CONTENT_KEY.matcher(storagePath).matches()) {
+                    continue;
+                }
+                try {
+                    // Rows sharing a path are all repointed by the first of them
+                    String key = fileUploadService.rehome(storagePath, legacyRoot);
+                    if (key == null) {
+                        if (!fileAttachmentRepository.findById(attachment.getId())
+                                .map(current -> CONTENT_KEY.matcher(current.getStoragePath()).matches())
+                                .orElse(true)) {
+                            missing++;
+                            logger.warn("Stored file missing for attachment {}: {}", attachment.getId(), storagePath);
+                        }
+                        continue;
+                    }
+                    moved++;
+                    attachment.setStoragePath(key);
+                    attachment.setThumbnailAvailable(false);
+                    thumbnailService.requestThumbnail(attachment);
+                } catch (Exception ex) {
+                    failed++;
+                    logger.warn("Could not rehome attachment {} ({}): {}", attachment.getId(), storagePath, ex.getMessage());
+                }
+            }
+            if (!batch.isEmpty() && !lease.claim()) {
+                logger.warn("Storage migration lost its lease, stopping");
+                break;
+            }
+        } while (batch.size() == batchSize);
+        logger.info("Storage migration finished: {} moved, {} missing, {} failed", moved, missing, failed);
+    }
+}
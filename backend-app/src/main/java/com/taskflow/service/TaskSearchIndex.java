@@ -0,0 +1,508 @@
+package com.taskflow.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import com.taskflow.entity.Task;
+import com.taskflow.repository.TaskRepository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * In-memory inverted index over task titles and descriptions, partitioned by project.
+ *
+ * Bare query terms match any token they prefix; quoted terms must appear as a phrase.
+ * All clauses must match. Results are ranked by hit count, with title hits weighted higher.
+ *
+ * Each node holds its own index. Changes are applied locally and announced on the
+ * {@link NotificationBus}; other nodes reload the task from the database and index that, so
+ * they converge on the committed state. Until the first rebuild completes the index is not
+ * {@link #isReady() ready}, and callers search in SQL instead, narrowing with
+ * {@link #sqlTerms} and matching with {@link #searchAmong} so results are the same.
+ */
+@Service
+public class TaskSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskSearchIndex.class);
+
+    private static final int REBUILD_BATCH_SIZE = 1000;
+    private static final int TITLE_WEIGHT = 3;
+    private static final String CHANGE_STREAM = "search";
+    private static final String TASK_CHANGED = "task.changed";
+    private static final String TASK_REMOVED = "task.removed";
+    private static final String PROJECT_REMOVED = "project.removed";
+
+    private final TaskRepository taskRepository;
+    private final NotificationBus bus;
+    // Tags this node's announcements, which it has already applied
+    private final String nodeId = UUID.randomUUID().toString();
+    // Reloads for other nodes' changes, off the bus listener thread and in arrival order
+    private final ExecutorService remoteChanges = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "task-search-sync");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile Map<Long, ProjectIndex> projects = new ConcurrentHashMap<>();
+    private volatile Rebuild rebuilding;
+    private volatile boolean ready;
+
+    public TaskSearchIndex(TaskRepository taskRepository, NotificationBus bus) {
+        this.taskRepository = taskRepository;
+        this.bus = bus;
+    }
+
+    @PostConstruct
+    void start() {
+        bus.subscribe(this::onChange);
+    }
+
+    @PreDestroy
+    void stop() {
+        remoteChanges.shutdownNow();
+    }
+
+    /**
+     * Whether the index holds every task. False until the startup rebuild completes.
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Loads every task into a fresh index and swaps it in once complete, so searches keep using
+     * the current index meanwhile. Changes made during the rebuild are applied to both, and win
+     * over the rebuild's copy of the same task, which may have been read before the change.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        Rebuild fresh = new Rebuild();
+        rebuilding = fresh;
+        try {
+            PageRequest request = PageRequest.of(0, REBUILD_BATCH_SIZE, Sort.by("id"));
+            Page<Task> page;
+            do {
+                page = taskRepository.findAll(request);
+                page.forEach(fresh::load);
+                request = request.next();
+            } while (page.hasNext());
+            projects = fresh.projects;
+            ready = true;
+        } finally {
+            rebuilding = null;
+        }
+    }
+
+    /**
+     * Indexes a created or updated task here, and on other nodes once the change commits.
+     */
+    public void index(Task task) {
+        apply(task);
+        Long projectId = task.getProject().getId();
+        Long taskId = task.getId();
+        TransactionCallbacks.afterCommit(() -> announce(TASK_CHANGED, projectId + ":" + taskId));
+    }
+
+    public void remove(Long projectId, Long taskId) {
+        applyRemove(projectId, taskId);
+        TransactionCallbacks.afterCommit(() -> announce(TASK_REMOVED, projectId + ":" + taskId));
+    }
+
+    public void removeProject(Long projectId) {
+        applyRemoveProject(projectId);
+        TransactionCallbacks.afterCommit(() -> announce(PROJECT_REMOVED, projectId.toString()));
+    }
+
+    private void apply(Task task) {
+        // The rebuild's map first: once it is swapped in, the second write lands there again
+        Rebuild fresh = rebuilding;
+        if (fresh != null) {
+            index(fresh.projects, task);
+        }
+        index(projects, task);
+    }
+
+    private void applyRemove(Long projectId, Long taskId) {
+        Rebuild fresh = rebuilding;
+        if (fresh != null) {
+            // Recorded before removing, so a page read earlier cannot put the task back
+            fresh.removedTasks.add(taskId);
+            remove(fresh.projects, projectId, taskId);
+        }
+        remove(projects, projectId, taskId);
+    }
+
+    private void applyRemoveProject(Long projectId) {
+        Rebuild fresh = rebuilding;
+        if (fresh != null) {
+            fresh.removedProjects.add(projectId);
+            fresh.projects.remove(projectId);
+        }
+        projects.remove(projectId);
+    }
+
+    /**
+     * Announcements are best effort; a node that misses one serves the old entry until its next
+     * restart, which is the same as a search index that lags.
+     */
+    private void announce(String event, String ids) {
+        try {
+            bus.publish(CHANGE_STREAM, event, nodeId + ":" + ids);
+        } catch (RuntimeException ex) {
+            logger.warn("Could not announce search index change: {}", ex.getMessage());
+        }
+    }
+
+    private void onChange(NotificationBusMessage message) {
+        if (!CHANGE_STREAM.equals(message.stream())) {
+            return;
+        }
+        String[] parts = message.payload().split(":");
+        if (nodeId.equals(parts[0])) {
+            return;
+        }
+        Long projectId = Long.valueOf(parts[1]);
+        try {
+            remoteChanges.execute(() -> {
+                try {
+                    switch (message.event()) {
+                        case TASK_CHANGED -> {
+                            Long taskId = Long.valueOf(parts[2]);
+                            // The current row, whatever order changes arrive in; gone means deleted since
+                            taskRepository.findById(taskId).ifPresentOrElse(
+                                this::apply,
+                                () -> applyRemove(projectId, taskId));
+                        }
+                        case TASK_REMOVED -> applyRemove(projectId, Long.valueOf(parts[2]));
+                        case PROJECT_REMOVED -> applyRemoveProject(projectId);
+                        default -> {
+                        }
+                    }
+                } catch (RuntimeException ex) {
+                    logger.warn("Could not apply search index change {}: {}", message.payload(), ex.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            // Shutting down
+        }
+    }
+
+    private static void index(Map<Long, ProjectIndex> projects, Task task) {
+        projects.computeIfAbsent(task.getProject().getId(), key -> new ProjectIndex())
+            .put(task.getId(), tokenize(task.getTitle()), tokenize(task.getDescription()));
+    }
+
+    private static void remove(Map<Long, ProjectIndex> projects, Long projectId, Long taskId) {
+        ProjectIndex index = projects.get(projectId);
+        if (index != null) {
+            index.remove(taskId);
+        }
+    }
+
+    /**
+     * Returns ids of matching tasks in the project, best match first.
+     */
+    public List<Long> search(Long projectId, String query, int limit) {
+        ProjectIndex index = projects.get(projectId);
+        List<Clause> clauses = parse(query);
+        if (index == null || clauses.isEmpty()) {
+            return List.of();
+        }
+        return index.search(clauses, limit);
+    }
+
+    /**
+     * Ids of the given tasks that match the query, ranked as {@link #search} would rank them.
+     * Used on rows loaded from SQL when the index cannot answer.
+     */
+    public static List<Long> searchAmong(String query, Collection<Task> tasks) {
+        List<Clause> clauses = parse(query);
+        if (clauses.isEmpty()) {
+            return List.of();
+        }
+        ProjectIndex index = new ProjectIndex();
+        tasks.forEach(task -> index.put(task.getId(), tokenize(task.getTitle()), tokenize(task.getDescription())));
+        return index.search(clauses, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Words every match contains as a substring of its title or description, for narrowing a
+     * SQL search before {@link #searchAmong}. Empty when the query has no words.
+     */
+    public static List<String> sqlTerms(String query) {
+        return parse(query).stream()
+            .flatMap(clause -> clause.tokens().stream())
+            .distinct()
+            .toList();
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        StringBuilder current = new StringBuilder();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                current.append(c);
+            } else if (current.length() > 0) {
+                tokens.add(current.toString().toLowerCase(Locale.ROOT));
+                current.setLength(0);
+            }
+        }
+        if (current.length() > 0) {
+            tokens.add(current.toString().toLowerCase(Locale.ROOT));
+        }
+        return tokens;
+    }
+
+    static List<Clause> parse(String query) {
+        List<Clause> clauses = new ArrayList<>();
+        if (query == null) {
+            return clauses;
+        }
+        String[] parts = query.split("\"", -1);
+        for (int i = 0; i < parts.length; i++) {
+            List<String> tokens = tokenize(parts[i]);
+            if (tokens.isEmpty()) {
+                continue;
+            }
+            // Odd segments sit between quotes
+            if (i % 2 == 1 && tokens.size() > 1) {
+                clauses.add(new Clause(tokens, false));
+            } else {
+                tokens.forEach(token -> clauses.add(new Clause(List.of(token), true)));
+            }
+        }
+        return clauses;
+    }
+
+    record Clause(List<String> tokens, boolean prefix) {
+    }
+
+    /**
+     * Occurrences of one term in one task. Title positions come first; description
+     * positions are offset past the title so phrases never span both fields.
+     */
+    private record Posting(int titleHits, int[] positions) {
+
+        int score() {
+            return titleHits * TITLE_WEIGHT + (positions.length - titleHits);
+        }
+    }
+
+    /**
+     * A rebuild in progress. Live changes are applied to it too; the rebuild never overwrites
+     * them, and never restores a task or project removed since it started.
+     */
+    private static final class Rebuild {
+
+        private final Map<Long, ProjectIndex> projects = new ConcurrentHashMap<>();
+        private final Set<Long> removedTasks = ConcurrentHashMap.newKeySet();
+        private final Set<Long> removedProjects = ConcurrentHashMap.newKeySet();
+
+        void load(Task task) {
+            Long projectId = task.getProject().getId();
+            if (removedProjects.contains(projectId)) {
+                return;
+            }
+            ProjectIndex index = projects.computeIfAbsent(projectId, key -> new ProjectIndex());
+            index.putUnless(task.getId(), tokenize(task.getTitle()), tokenize(task.getDescription()), removedTasks);
+            // The project may have been removed between the check and the put
+            if (removedProjects.contains(projectId)) {
+                projects.remove(projectId);
+            }
+        }
+    }
+
+    private static class ProjectIndex {
+
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private final NavigableMap<String, Map<Long, Posting>> postings = new TreeMap<>();
+        private final Map<Long, Collection<String>> termsByTask = new HashMap<>();
+
+        void put(Long taskId, List<String> title, List<String> description) {
+            putUnless(taskId, title, description, null);
+        }
+
+        /**
+         * Indexes the task unless it is in {@code skip}, or, when {@code skip} is not null, it is
+         * already indexed. Both are checked under the write lock, after any live change to it.
+         */
+        void putUnless(Long taskId, List<String> title, List<String> description, Set<Long> skip) {
+            Map<String, List<Integer>> positions = new HashMap<>();
+            for (int i = 0; i < title.size(); i++) {
+                positions.computeIfAbsent(title.get(i), key -> new ArrayList<>()).add(i);
+            }
+            int offset = title.size() + 1;
+            for (int i = 0; i < description.size(); i++) {
+                positions.computeIfAbsent(description.get(i), key -> new ArrayList<>()).add(offset + i);
+            }
+
+            lock.writeLock().lock();
+            try {
+                if (skip != null && (skip.contains(taskId) || termsByTask.containsKey(taskId))) {
+                    return;
+                }
+                removeLocked(taskId);
+                positions.forEach((term, list) -> {
+                    int[] array = list.stream().mapToInt(Integer::intValue).toArray();
+                    int titleHits = (int) list.stream().filter(p -> p < title.size()).count();
+                    postings.computeIfAbsent(term, key -> new HashMap<>()).put(taskId, new Posting(titleHits, array));
+                });
+                termsByTask.put(taskId, positions.keySet());
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void remove(Long taskId) {
+            lock.writeLock().lock();
+            try {
+                removeLocked(taskId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        private void removeLocked(Long taskId) {
+            Collection<String> terms = termsByTask.remove(taskId);
+            if (terms == null) {
+                return;
+            }
+            for (String term : terms) {
+                Map<Long, Posting> docs = postings.get(term);
+                if (docs != null) {
+                    docs.remove(taskId);
+                    if (docs.isEmpty()) {
+                        postings.remove(term);
+                    }
+                }
+            }
+        }
+
+        List<Long> search(List<Clause> clauses, int limit) {
+            lock.readLock().lock();
+            try {
+                Map<Long, Integer> scores = null;
+                for (Clause clause : clauses) {
+                    Map<Long, Integer> matches = clause.prefix()
+                        ? matchPrefix(clause.tokens().get(0))
+                        : matchPhrase(clause.tokens());
+                    if (scores == null) {
+                        scores = matches;
+                    } else {
+                        scores = intersect(scores, matches);
+                    }
+                    if (scores.isEmpty()) {
+                        return List.of();
+                    }
+                }
+                return scores.entrySet().stream()
+                    .sorted(Map.Entry.<Long, Integer>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey(Comparator.reverseOrder())))
+                    .limit(limit)
+                    .map(Map.Entry::getKey)
+                    .toList();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private Map<Long, Integer> matchPrefix(String prefix) {
+            Map<Long, Integer> matches = new HashMap<>();
+            postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false)
+                .forEach((term, docs) -> {
+                    // Exact token matches outrank longer completions
+                    int bonus = term.equals(prefix) ? 1 : 0;
+                    docs.forEach((taskId, posting) -> matches.merge(taskId, posting.score() + bonus, Integer::sum));
+                });
+            return matches;
+        }
+
+        private Map<Long, Integer> matchPhrase(List<String> tokens) {
+            Map<Long, Integer> matches = new HashMap<>();
+            List<Map<Long, Posting>> docsPerToken = new ArrayList<>();
+            for (String token : tokens) {
+                Map<Long, Posting> docs = postings.get(token);
+                if (docs == null) {
+                    return matches;
+                }
+                docsPerToken.add(docs);
+            }
+
+            Map<Long, Posting> smallest = docsPerToken.stream()
+                .min(Comparator.comparingInt(Map::size))
+                .orElseThrow();
+            for (Long taskId : smallest.keySet()) {
+                int hits = countPhrase(docsPerToken, taskId);
+                if (hits > 0) {
+                    boolean inTitle = docsPerToken.get(0).get(taskId).titleHits() > 0;
+                    matches.put(taskId, hits * tokens.size() * (inTitle ? TITLE_WEIGHT : 1));
+                }
+            }
+            return matches;
+        }
+
+        private int countPhrase(List<Map<Long, Posting>> docsPerToken, Long taskId) {
+            List<int[]> positions = new ArrayList<>();
+            for (Map<Long, Posting> docs : docsPerToken) {
+                Posting posting = docs.get(taskId);
+                if (posting == null) {
+                    return 0;
+                }
+                positions.add(posting.positions());
+            }
+            int hits = 0;
+            for (int start : positions.get(0)) {
+                boolean match = true;
+                for (int i = 1; i < positions.size() && match; i++) {
+                    match = Arrays.binarySearch(positions.get(i), start + i) >= 0;
+                }
+                if (match) {
+                    hits++;
+                }
+            }
+            return hits;
+        }
+
+        private Map<Long, Integer> intersect(Map<Long, Integer> left, Map<Long, Integer> right) {
+            Map<Long, Integer> smaller = left.size() <= right.size() ? left : right;
+            Map<Long, Integer> larger = smaller == left ? right : left;
+            Map<Long, Integer> result = new HashMap<>();
+            smaller.forEach((taskId, score) -> {
+                Integer other = larger.get(taskId);
+                if (other != null) {
+                    result.put(taskId, score + other);
+                }
+            });
+            return result;
+        }
+    }
+}
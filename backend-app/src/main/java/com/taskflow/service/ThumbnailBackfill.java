@@ -0,0 +1,61 @@
+package com.taskflow.service;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import com.taskflow.entity.FileAttachment;
+import com.taskflow.repository.FileAttachmentRepository;
+
+/**
+ * One-off pass over image attachments not flagged as having a preview: attachments uploaded
+ * before previews were generated, or before the flag was recorded. Existing previews are only
+ * flagged; missing ones are generated on this thread, so the pass is not subject to the
+ * background queue dropping work. Enabled with {@code app.thumbnails.backfill=true}, on one node.
+ *
+ * Images that cannot be previewed stay unflagged, so a later run tries them again.
+ */
+@Component
+@ConditionalOnProperty(name = "app.thumbnails.backfill", havingValue = "true")
+public class ThumbnailBackfill implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(ThumbnailBackfill.class);
+
+    private final FileAttachmentRepository fileAttachmentRepository;
+    private final ThumbnailService thumbnailService;
+    private final int batchSize;
+
+    public ThumbnailBackfill(
+        FileAttachmentRepository fileAttachmentRepository,
+        ThumbnailService thumbnailService,
+        @Value("${app.thumbnails.backfill-batch-size:200}") int batchSize
+    ) {
+        this.fileAttachmentRepository = fileAttachmentRepository;
+        this.thumbnailService = thumbnailService;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int checked = 0;
+        long lastId = 0;
+        List<FileAttachment> batch;
+        do {
+            batch = fileAttachmentRepository.findByIdGreaterThanAndFileTypeStartingWithAndThumbnailAvailableFalseOrderByIdAsc(
+                lastId, "image/", PageRequest.of(0, batchSize));
+            for (FileAttachment attachment : batch) {
+                lastId = attachment.getId();
+                thumbnailService.generate(attachment.getStoragePath());
+                checked++;
+            }
+        } while (batch.size() == batchSize);
+        logger.info("Thumbnail backfill finished: {} attachments checked", checked);
+    }
+}
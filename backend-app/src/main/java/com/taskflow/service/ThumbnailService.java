@@ -0,0 +1,185 @@
+package com.taskflow.service;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.taskflow.entity.FileAttachment;
+import com.taskflow.repository.FileAttachmentRepository;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Generates fixed-size JPEG previews for image attachments in the background.
+ *
+ * Work runs on a small bounded pool; when its queue is full the request is dropped and the
+ * attachment simply has no preview, so uploads never wait on image decoding. Large images are
+ * decoded subsampled, and images over the pixel limit are skipped, which keeps the heap cost
+ * of one job bounded. Previews sit next to the stored file and are shared with it; once one
+ * exists, every attachment on that file is flagged, so listings never query the storage backend.
+ */
+@Service
+public class ThumbnailService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ThumbnailService.class);
+
+    private final FileUploadService fileUploadService;
+    private final FileAttachmentRepository fileAttachmentRepository;
+    private final ThreadPoolExecutor workers;
+    private final int size;
+    private final long maxPixels;
+
+    public ThumbnailService(
+        FileUploadService fileUploadService,
+        FileAttachmentRepository fileAttachmentRepository,
+        @Value("${app.thumbnails.size:256}") int size,
+        @Value("${app.thumbnails.threads:2}") int threads,
+        @Value("${app.thumbnails.queue-capacity:200}") int queueCapacity,
+        @Value("${app.thumbnails.max-pixels:50000000}") long maxPixels
+    ) {
+        this.fileUploadService = fileUploadService;
+        this.fileAttachmentRepository = fileAttachmentRepository;
+        this.size = size;
+        this.maxPixels = maxPixels;
+        AtomicInteger counter = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+                Thread thread = new Thread(runnable, "thumbnail-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                thread.setPriority(Thread.MIN_PRIORITY);
+                return thread;
+            });
+    }
+
+    @PreDestroy
+    void stop() {
+        workers.shutdownNow();
+    }
+
+    /**
+     * Queues a preview for the attachment if it is an image without one yet. An attachment that
+     * shares its file with one already previewed is only flagged.
+     */
+    public void requestThumbnail(FileAttachment attachment) {
+        String fileType = attachment.getFileType();
+        if (fileType == null || !fileType.startsWith("image/") || attachment.isThumbnailAvailable()) {
+            return;
+        }
+        String storagePath = attachment.getStoragePath();
+        try {
+            workers.execute(() -> generate(storagePath));
+        } catch (RejectedExecutionException ex) {
+            logger.warn("Thumbnail queue full, skipping preview for {}", storagePath);
+        }
+    }
+
+    /**
+     * Creates the preview for a stored file unless it exists, and flags the file's attachments.
+     */
+    void generate(String storagePath) {
+        try {
+            if (fileUploadService.fileExists(fileUploadService.getThumbnailKey(storagePath))) {
+                fileAttachmentRepository.markThumbnailAvailable(storagePath);
+                return;
+            }
+            StorageBackend.ObjectInfo source = fileUploadService.stat(storagePath);
+            if (source == null || source.size() == 0) {
+                return;
+            }
+            BufferedImage image;
+            try (InputStream in = Channels.newInputStream(fileUploadService.open(storagePath, 0, source.size()))) {
+                image = read(in);
+            }
+            if (image == null) {
+                return;
+            }
+            Path temp = Files.createTempFile(fileUploadService.tempDirectory(), "thumb-", ".jpg");
+            try {
+                ImageIO.write(scale(image), "jpg", temp.toFile());
+                fileUploadService.saveThumbnail(storagePath, temp);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+            fileAttachmentRepository.markThumbnailAvailable(storagePath);
+            // The file may have been deleted while the preview was being made
+            if (!fileUploadService.fileExists(storagePath)) {
+                fileUploadService.deleteFile(storagePath);
+            }
+        } catch (IOException | RuntimeException ex) {
+            logger.warn("Could not create thumbnail for {}: {}", storagePath, ex.getMessage());
+        }
+    }
+
+    /**
+     * Decodes the image at a subsampling that still leaves at least twice the preview size, or
+     * returns null when the format is unsupported or the image is too large.
+     */
+    private BufferedImage read(InputStream source) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(source)) {
+            if (in == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    return null;
+                }
+                ImageReadParam param = reader.getDefaultReadParam();
+                int step = Math.max(1, Math.min(width, height) / (size * 2));
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private BufferedImage scale(BufferedImage image) {
+        double ratio = Math.min(1.0, Math.min((double) size / image.getWidth(), (double) size / image.getHeight()));
+        int width = Math.max(1, (int) Math.round(image.getWidth() * ratio));
+        int height = Math.max(1, (int) Math.round(image.getHeight() * ratio));
+        // JPEG has no alpha channel, so transparent areas are flattened onto white
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = scaled.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return scaled;
+    }
+}
@@ -0,0 +1,98 @@
+package com.taskflow.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.taskflow.repository.NotificationRepository;
+
+/**
+ * Unread notification counts per user, held in memory so reads and pushes need no COUNT query.
+ *
+ * A user's counter is seeded from the database on first use and then moved by inserts and read
+ * transitions, on this node directly and from other nodes through
+ * {@link NotificationStreamService#sendUnreadChange}. Updates racing a seed or a reconcile can leave a counter off by a few until the
+ * periodic reconcile recounts every tracked user.
+ */
+@Service
+public class UnreadNotificationCounter {
+
+    private static final int RECONCILE_BATCH_SIZE = 500;
+
+    private final NotificationRepository notificationRepository;
+    private final Map<Long, AtomicInteger> counters = new ConcurrentHashMap<>();
+
+    public UnreadNotificationCounter(NotificationRepository notificationRepository) {
+        this.notificationRepository = notificationRepository;
+    }
+
+    public int get(Long userId) {
+        return counter(userId).get();
+    }
+
+    /**
+     * Records committed new notifications and returns the user's new unread count.
+     */
+    public int added(Long userId, int count) {
+        AtomicInteger counter = counters.get(userId);
+        if (counter == null) {
+            // Seeding after the commit already counts the new rows
+            return counter(userId).get();
+        }
+        return counter.addAndGet(count);
+    }
+
+    /**
+     * Records notifications that moved from unread to read and returns the new unread count.
+     */
+    public int read(Long userId, int count) {
+        AtomicInteger counter = counters.get(userId);
+        if (counter == null) {
+            // Seeding after the commit already excludes the rows just read
+            return counter(userId).get();
+        }
+        return counter.updateAndGet(value -> Math.max(0, value - count));
+    }
+
+    /**
+     * Applies a change committed on another node. Users not tracked here are skipped; their
+     * counter is seeded from the database, which already includes it, on first use.
+     */
+    public void applyRemote(Long userId, int delta) {
+        AtomicInteger counter = counters.get(userId);
+        if (counter != null) {
+            counter.updateAndGet(value -> Math.max(0, value + delta));
+        }
+    }
+
+    public void set(Long userId, int count) {
+        counters.computeIfAbsent(userId, key -> new AtomicInteger()).set(count);
+    }
+
+    @Scheduled(
+        fixedDelayString = "${app.notifications.unread-reconcile-interval-ms:300000}",
+        initialDelayString = "${app.notifications.unread-reconcile-interval-ms:300000}"
+    )
+    public void reconcile() {
+        List<Long> userIds = new ArrayList<>(counters.keySet());
+        for (int from = 0; from < userIds.size(); from += RECONCILE_BATCH_SIZE) {
+            List<Long> batch = userIds.subList(from, Math.min(from + RECONCILE_BATCH_SIZE, userIds.size()));
+            Map<Long, Integer> actual = new HashMap<>();
+            for (NotificationRepository.UnreadCount row : notificationRepository.countUnreadByUserIds(batch)) {
+                actual.put(row.getUserId(), row.getUnread().intValue());
+            }
+            batch.forEach(userId -> set(userId, actual.getOrDefault(userId, 0)));
+        }
+    }
+
+    private AtomicInteger counter(Long userId) {
+        return counters.computeIfAbsent(userId,
+            key -> new AtomicInteger(notificationRepository.countByUserIdAndIsReadFalse(key)));
+    }
+}
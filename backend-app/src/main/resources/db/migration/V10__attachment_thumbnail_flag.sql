@@ -0,0 +1,4 @@
+-- Whether an attachment's preview exists, recorded when it is generated so listing attachments
+-- does not ask the storage backend about each one.
+
+ALTER TABLE file_attachments ADD COLUMN thumbnail_available BOOLEAN NOT NULL DEFAULT FALSE;
@@ -0,0 +1,12 @@
+-- When an upload session last received a chunk, so any node can expire idle sessions without
+-- looking at part files, which live on whichever node took the chunks.
+
+ALTER TABLE upload_sessions ADD COLUMN last_chunk_at TIMESTAMP(6);
+
+UPDATE upload_sessions SET last_chunk_at = created_at;
+
+ALTER TABLE upload_sessions ALTER COLUMN last_chunk_at SET NOT NULL;
+
+DROP INDEX idx_upload_sessions_created;
+
+CREATE INDEX idx_upload_sessions_last_chunk ON upload_sessions (last_chunk_at);
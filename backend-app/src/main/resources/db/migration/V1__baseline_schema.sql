@@ -0,0 +1,83 @@
+-- Schema as previously generated by Hibernate ddl-auto=update.
+-- Existing databases are baselined at this version and skip it.
+
+CREATE TABLE users (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    email VARCHAR(255) NOT NULL UNIQUE,
+    password_hash VARCHAR(255) NOT NULL
+);
+
+CREATE TABLE project (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    owner_id BIGINT NOT NULL REFERENCES users (id)
+);
+
+CREATE TABLE project_users (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    project_id BIGINT NOT NULL REFERENCES project (id),
+    user_id BIGINT NOT NULL REFERENCES users (id),
+    role VARCHAR(255) NOT NULL,
+    joined_at TIMESTAMP(6)
+);
+
+CREATE TABLE task (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    title VARCHAR(255) NOT NULL,
+    description TEXT,
+    status VARCHAR(255) NOT NULL,
+    priority VARCHAR(255) NOT NULL,
+    due_date DATE,
+    project_id BIGINT NOT NULL REFERENCES project (id)
+);
+
+CREATE TABLE task_assignments (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    task_id BIGINT NOT NULL REFERENCES task (id),
+    user_id BIGINT NOT NULL REFERENCES users (id),
+    assigned_at TIMESTAMP(6)
+);
+
+CREATE TABLE comment (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    content TEXT NOT NULL,
+    task_id BIGINT NOT NULL REFERENCES task (id),
+    user_id BIGINT NOT NULL REFERENCES users (id),
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6)
+);
+
+CREATE TABLE file_attachments (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    file_name VARCHAR(255) NOT NULL,
+    file_type VARCHAR(255) NOT NULL,
+    file_size BIGINT NOT NULL,
+    storage_path VARCHAR(255) NOT NULL,
+    uploaded_at TIMESTAMP(6) NOT NULL,
+    uploaded_by_id BIGINT REFERENCES users (id),
+    task_id BIGINT REFERENCES task (id),
+    comment_id BIGINT REFERENCES comment (id)
+);
+
+CREATE TABLE notifications (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id BIGINT NOT NULL REFERENCES users (id),
+    type VARCHAR(255) NOT NULL,
+    title VARCHAR(255) NOT NULL,
+    message TEXT,
+    related_entity_type VARCHAR(255),
+    related_entity_id BIGINT,
+    is_read BOOLEAN,
+    created_at TIMESTAMP(6)
+);
+
+CREATE TABLE activity_logs (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    project_id BIGINT REFERENCES project (id),
+    user_id BIGINT NOT NULL REFERENCES users (id),
+    action VARCHAR(255) NOT NULL,
+    entity_type VARCHAR(255),
+    entity_id BIGINT,
+    description TEXT,
+    created_at TIMESTAMP(6)
+);
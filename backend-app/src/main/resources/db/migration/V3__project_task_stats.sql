@@ -0,0 +1,23 @@
+-- Materialized per-project task counters read by the dashboard.
+
+CREATE TABLE project_task_stats (
+    project_id BIGINT PRIMARY KEY REFERENCES project (id),
+    total BIGINT NOT NULL DEFAULT 0,
+    todo BIGINT NOT NULL DEFAULT 0,
+    in_progress BIGINT NOT NULL DEFAULT 0,
+    done BIGINT NOT NULL DEFAULT 0,
+    overdue BIGINT NOT NULL DEFAULT 0,
+    overdue_as_of DATE NOT NULL
+);
+
+INSERT INTO project_task_stats (project_id, total, todo, in_progress, done, overdue, overdue_as_of)
+SELECT p.id,
+       COUNT(t.id),
+       SUM(CASE WHEN t.status = 'TODO' THEN 1 ELSE 0 END),
+       SUM(CASE WHEN t.status = 'IN_PROGRESS' THEN 1 ELSE 0 END),
+       SUM(CASE WHEN t.status = 'DONE' THEN 1 ELSE 0 END),
+       SUM(CASE WHEN t.due_date < CURRENT_DATE AND t.status <> 'DONE' THEN 1 ELSE 0 END),
+       CURRENT_DATE
+FROM project p
+LEFT JOIN task t ON t.project_id = p.id
+GROUP BY p.id;
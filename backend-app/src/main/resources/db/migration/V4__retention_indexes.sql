@@ -0,0 +1,5 @@
+-- Age-ordered indexes for the retention purge, which picks the oldest rows in small chunks.
+
+CREATE INDEX idx_notifications_read_created ON notifications (is_read, created_at, id);
+
+CREATE INDEX idx_activity_logs_created ON activity_logs (created_at, id);
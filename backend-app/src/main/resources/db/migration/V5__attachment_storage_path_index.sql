@@ -0,0 +1,3 @@
+-- Attachments share content-addressed blobs; the blob is deleted when no row references its path.
+
+CREATE INDEX idx_file_attachments_storage_path ON file_attachments (storage_path);
@@ -0,0 +1,15 @@
+-- Resumable chunked uploads; received bytes live in a part file under the upload directory.
+
+CREATE TABLE upload_sessions (
+    id VARCHAR(36) PRIMARY KEY,
+    user_id BIGINT NOT NULL REFERENCES users (id),
+    project_id BIGINT NOT NULL,
+    task_id BIGINT NOT NULL,
+    comment_id BIGINT,
+    file_name VARCHAR(255) NOT NULL,
+    file_type VARCHAR(255) NOT NULL,
+    total_size BIGINT NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX idx_upload_sessions_created ON upload_sessions (created_at);
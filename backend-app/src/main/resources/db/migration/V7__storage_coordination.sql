@@ -0,0 +1,13 @@
+-- Cross-node coordination for attachment storage. A storage key's row is locked FOR UPDATE
+-- while an object is stored with its reference or deleted once unreferenced; job leases let
+-- one node at a time run work such as the legacy storage migration.
+
+CREATE TABLE storage_locks (
+    storage_key VARCHAR(255) PRIMARY KEY
+);
+
+CREATE TABLE job_leases (
+    name VARCHAR(100) PRIMARY KEY,
+    owner VARCHAR(36) NOT NULL,
+    expires_at TIMESTAMP(6) NOT NULL
+);
@@ -0,0 +1,3 @@
+-- A completed upload session remembers its attachment, so a retried completion returns it.
+
+ALTER TABLE upload_sessions ADD COLUMN attachment_id BIGINT;
@@ -0,0 +1,4 @@
+-- Ids for stream events published over the Postgres notification bus, shared by every node so
+-- a client's Last-Event-ID means the same thing whichever node it reconnects to.
+
+CREATE SEQUENCE notification_event_seq;
@@ -0,0 +1,180 @@
+package com.taskflow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.taskflow.entity.ActivityLog;
+import com.taskflow.entity.Project;
+import com.taskflow.entity.User;
+import com.taskflow.repository.ActivityLogRepository;
+import com.taskflow.repository.ProjectRepository;
+import com.taskflow.repository.UserRepository;
+import com.taskflow.security.JwtUtil;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Project activity listing: keyset pages that stay stable as entries are added, the filters,
+ * and the continuation link on the unpaged endpoint.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class ActivityPagingTests {
+
+	private static final LocalDateTime START = LocalDateTime.of(2026, 1, 1, 9, 0);
+
+	private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private JwtUtil jwtUtil;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private ProjectRepository projectRepository;
+
+	@Autowired
+	private ActivityLogRepository activityLogRepository;
+
+	private User owner;
+	private Project project;
+	private String token;
+
+	@BeforeEach
+	void createProject() {
+		String run = UUID.randomUUID().toString();
+		owner = userRepository.save(new User("activity-" + run + "@example.com", "hash"));
+		project = projectRepository.save(new Project("Activity " + run, owner));
+		token = jwtUtil.generateToken(owner.getId(), owner.getEmail());
+	}
+
+	@Test
+	void pagesStayStableWhileEntriesAreAdded() throws Exception {
+		List<Long> older = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			older.add(0, log("TASK_CREATED", "TASK", START.plusMinutes(i)).getId());
+		}
+		// Same timestamp: the id breaks the tie
+		older.add(0, log("TASK_CREATED", "TASK", START.plusMinutes(4)).getId());
+
+		JsonNode first = page(null, null, null, 2);
+		log("TASK_CREATED", "TASK", START.plusMinutes(10));
+		JsonNode second = page(first.get("nextCursor").asString(), null, null, 2);
+		JsonNode third = page(second.get("nextCursor").asString(), null, null, 2);
+
+		List<Long> seen = new ArrayList<>(ids(first.get("items")));
+		seen.addAll(ids(second.get("items")));
+		seen.addAll(ids(third.get("items")));
+		assertThat(seen).isEqualTo(older);
+		assertThat(third.get("hasMore").asBoolean()).isFalse();
+		assertThat(third.get("nextCursor").isNull()).isTrue();
+	}
+
+	@Test
+	void filtersByActionAndEntityType() throws Exception {
+		long created = log("TASK_CREATED", "TASK", START).getId();
+		long updated = log("TASK_UPDATED", "TASK", START.plusMinutes(1)).getId();
+		long commented = log("COMMENT_ADDED", "COMMENT", START.plusMinutes(2)).getId();
+
+		assertThat(ids(page(null, "TASK_UPDATED", null, 10).get("items"))).containsExactly(updated);
+		assertThat(ids(page(null, null, "TASK", 10).get("items"))).containsExactly(updated, created);
+		assertThat(ids(page(null, "COMMENT_ADDED", "TASK", 10).get("items"))).isEmpty();
+		assertThat(ids(list(request("/activity").param("entityType", "COMMENT")))).containsExactly(commented);
+	}
+
+	@Test
+	void malformedCursorIsRejected() throws Exception {
+		mockMvc.perform(request("/activity/page").param("cursor", "not-a-cursor"))
+			.andExpect(status().isBadRequest());
+	}
+
+	@Test
+	void unpagedListingLinksToTheRest() throws Exception {
+		List<ActivityLog> logs = new ArrayList<>();
+		for (int i = 0; i < 205; i++) {
+			logs.add(new ActivityLog(project, owner, "TASK_CREATED", "TASK", (long) i, "Entry " + i));
+			logs.get(i).setCreatedAt(START.plusMinutes(i));
+		}
+		activityLogRepository.saveAll(logs);
+
+		MockHttpServletResponse response = mockMvc.perform(request("/activity").param("action", "TASK_CREATED"))
+			.andExpect(status().isOk())
+			.andReturn().getResponse();
+		assertThat(ids(jsonMapper.readTree(response.getContentAsString()))).hasSize(200);
+
+		String link = response.getHeader(HttpHeaders.LINK);
+		assertThat(link).endsWith(">; rel=\"next\"").contains("action=TASK_CREATED");
+		String next = link.substring(1, link.indexOf('>'));
+		JsonNode rest = jsonMapper.readTree(mockMvc.perform(get(next).header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+			.andExpect(status().isOk())
+			.andReturn().getResponse().getContentAsString());
+		assertThat(ids(rest.get("items"))).hasSize(5);
+	}
+
+	@Test
+	void completeListingHasNoLink() throws Exception {
+		log("TASK_CREATED", "TASK", START);
+
+		mockMvc.perform(request("/activity"))
+			.andExpect(status().isOk())
+			.andExpect(header().doesNotExist(HttpHeaders.LINK));
+	}
+
+	private ActivityLog log(String action, String entityType, LocalDateTime createdAt) {
+		ActivityLog log = new ActivityLog(project, owner, action, entityType, 1L, action);
+		log.setCreatedAt(createdAt);
+		return activityLogRepository.save(log);
+	}
+
+	private JsonNode page(String cursor, String action, String entityType, int limit) throws Exception {
+		MockHttpServletRequestBuilder request = request("/activity/page").param("limit", String.valueOf(limit));
+		if (cursor != null) {
+			request.param("cursor", cursor);
+		}
+		if (action != null) {
+			request.param("action", action);
+		}
+		if (entityType != null) {
+			request.param("entityType", entityType);
+		}
+		return list(request);
+	}
+
+	private JsonNode list(MockHttpServletRequestBuilder request) throws Exception {
+		return jsonMapper.readTree(mockMvc.perform(request)
+			.andExpect(status().isOk())
+			.andReturn().getResponse().getContentAsString());
+	}
+
+	private MockHttpServletRequestBuilder request(String path) {
+		return get("/api/projects/" + project.getId() + path).header(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+	}
+
+	private static List<Long> ids(JsonNode items) {
+		List<Long> ids = new ArrayList<>();
+		items.forEach(item -> ids.add(item.get("id").asLong()));
+		return ids;
+	}
+}
@@ -0,0 +1,233 @@
+package com.taskflow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.taskflow.entity.FileAttachment;
+import com.taskflow.entity.Project;
+import com.taskflow.entity.Task;
+import com.taskflow.entity.User;
+import com.taskflow.repository.FileAttachmentRepository;
+import com.taskflow.repository.ProjectRepository;
+import com.taskflow.repository.TaskRepository;
+import com.taskflow.repository.UserRepository;
+import com.taskflow.security.JwtUtil;
+import com.taskflow.service.FileUploadService;
+
+/**
+ * Range and conditional request handling of attachment downloads, through the full filter
+ * chain and controller.
+ */
+@SpringBootTest(properties = "file.upload-dir=target/download-test-uploads")
+@AutoConfigureMockMvc
+class AttachmentDownloadTests {
+
+	private static final int LENGTH = 1000;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private JwtUtil jwtUtil;
+
+	@Autowired
+	private FileUploadService fileUploadService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private ProjectRepository projectRepository;
+
+	@Autowired
+	private TaskRepository taskRepository;
+
+	@Autowired
+	private FileAttachmentRepository fileAttachmentRepository;
+
+	private byte[] contents;
+	private String path;
+	private String token;
+
+	@BeforeEach
+	void storeAttachment() throws Exception {
+		String run = UUID.randomUUID().toString();
+		User owner = userRepository.save(new User("download-" + run + "@example.com", "hash"));
+		Project project = projectRepository.save(new Project("Download " + run, owner));
+		Task task = taskRepository.save(new Task("Task " + run, null, Task.Status.TODO, Task.Priority.MEDIUM, null, project));
+
+		// Unique per run, so each test gets its own stored object
+		contents = new byte[LENGTH];
+		byte[] marker = run.getBytes();
+		for (int i = 0; i < LENGTH; i++) {
+			contents[i] = i < marker.length ? marker[i] : (byte) i;
+		}
+		MockMultipartFile file = new MockMultipartFile("file", "data.bin", "application/octet-stream", contents);
+		FileAttachment attachment = fileUploadService.saveFile(file, storagePath -> {
+			FileAttachment created = new FileAttachment("data.bin", "application/octet-stream", (long) LENGTH, storagePath, owner);
+			created.setTask(task);
+			return fileAttachmentRepository.save(created);
+		});
+
+		path = "/api/projects/" + project.getId() + "/tasks/" + task.getId() + "/attachments/" + attachment.getId() + "/download";
+		token = jwtUtil.generateToken(owner.getId(), owner.getEmail());
+	}
+
+	@Test
+	void servesWholeFileWithValidators() throws Exception {
+		mockMvc.perform(download())
+			.andExpect(status().isOk())
+			.andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+			.andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, LENGTH))
+			.andExpect(header().exists(HttpHeaders.ETAG))
+			.andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+			.andExpect(content().bytes(contents));
+	}
+
+	@Test
+	void servesRequestedRange() throws Exception {
+		mockMvc.perform(download().header(HttpHeaders.RANGE, "bytes=10-19"))
+			.andExpect(status().isPartialContent())
+			.andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 10-19/" + LENGTH))
+			.andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 10))
+			.andExpect(content().bytes(Arrays.copyOfRange(contents, 10, 20)));
+	}
+
+	@Test
+	void servesOpenEndedRangeToTheEnd() throws Exception {
+		mockMvc.perform(download().header(HttpHeaders.RANGE, "bytes=990-"))
+			.andExpect(status().isPartialContent())
+			.andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 990-999/" + LENGTH))
+			.andExpect(content().bytes(Arrays.copyOfRange(contents, 990, LENGTH)));
+	}
+
+	@Test
+	void servesSuffixRange() throws Exception {
+		mockMvc.perform(download().header(HttpHeaders.RANGE, "bytes=-100"))
+			.andExpect(status().isPartialContent())
+			.andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 900-999/" + LENGTH))
+			.andExpect(content().bytes(Arrays.copyOfRange(contents, 900, LENGTH)));
+	}
+
+	@Test
+	void suffixLongerThanFileServesWholeFile() throws Exception {
+		mockMvc.perform(download().header(HttpHeaders.RANGE, "bytes=-5000"))
+			.andExpect(status().isPartialContent())
+			.andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 0-999/" + LENGTH))
+			.andExpect(content().bytes(contents));
+	}
+
+	@Test
+	void rangeStartingPastTheEndIsNotSatisfiable() throws Exception {
+		mockMvc.perform(download().header(HttpHeaders.RANGE, "bytes=" + LENGTH + "-"))
+			.andExpect(status().isRequestedRangeNotSatisfiable())
+			.andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */" + LENGTH));
+	}
+
+	@Test
+	void multipleRangesServeWholeFile() throws Exception {
+		mockMvc.perform(download().header(HttpHeaders.RANGE, "bytes=0-9,20-29"))
+			.andExpect(status().isOk())
+			.andExpect(header().doesNotExist(HttpHeaders.CONTENT_RANGE))
+			.andExpect(content().bytes(contents));
+	}
+
+	@Test
+	void ifRangeWithCurrentEtagServesRange() throws Exception {
+		String etag = fullResponse().getHeader(HttpHeaders.ETAG);
+
+		mockMvc.perform(download().header(HttpHeaders.RANGE, "bytes=0-9").header(HttpHeaders.IF_RANGE, etag))
+			.andExpect(status().isPartialContent())
+			.andExpect(content().bytes(Arrays.copyOfRange(contents, 0, 10)));
+	}
+
+	@Test
+	void ifRangeWithWeakEtagServesWholeFile() throws Exception {
+		String etag = fullResponse().getHeader(HttpHeaders.ETAG);
+
+		mockMvc.perform(download().header(HttpHeaders.RANGE, "bytes=0-9").header(HttpHeaders.IF_RANGE, "W/" + etag))
+			.andExpect(status().isOk())
+			.andExpect(header().doesNotExist(HttpHeaders.CONTENT_RANGE))
+			.andExpect(content().bytes(contents));
+	}
+
+	@Test
+	void ifRangeWithOtherEtagServesWholeFile() throws Exception {
+		mockMvc.perform(download().header(HttpHeaders.RANGE, "bytes=0-9").header(HttpHeaders.IF_RANGE, "\"stale\""))
+			.andExpect(status().isOk())
+			.andExpect(content().bytes(contents));
+	}
+
+	@Test
+	void ifRangeWithCurrentDateServesRange() throws Exception {
+		String lastModified = fullResponse().getHeader(HttpHeaders.LAST_MODIFIED);
+
+		mockMvc.perform(download().header(HttpHeaders.RANGE, "bytes=0-9").header(HttpHeaders.IF_RANGE, lastModified))
+			.andExpect(status().isPartialContent())
+			.andExpect(content().bytes(Arrays.copyOfRange(contents, 0, 10)));
+	}
+
+	@Test
+	void ifRangeWithStaleDateServesWholeFile() throws Exception {
+		String lastModified = fullResponse().getHeader(HttpHeaders.LAST_MODIFIED);
+		String stale = DateTimeFormatter.RFC_1123_DATE_TIME.format(
+			ZonedDateTime.parse(lastModified, DateTimeFormatter.RFC_1123_DATE_TIME)
+				.minusHours(1)
+				.withZoneSameInstant(ZoneOffset.UTC));
+
+		mockMvc.perform(download().header(HttpHeaders.RANGE, "bytes=0-9").header(HttpHeaders.IF_RANGE, stale))
+			.andExpect(status().isOk())
+			.andExpect(header().doesNotExist(HttpHeaders.CONTENT_RANGE))
+			.andExpect(content().bytes(contents));
+	}
+
+	@Test
+	void matchingEtagIsNotModified() throws Exception {
+		String etag = fullResponse().getHeader(HttpHeaders.ETAG);
+
+		MockHttpServletResponse response = mockMvc.perform(download().header(HttpHeaders.IF_NONE_MATCH, etag))
+			.andExpect(status().isNotModified())
+			.andReturn()
+			.getResponse();
+		assertThat(response.getContentAsByteArray()).isEmpty();
+	}
+
+	@Test
+	void unchangedSinceIsNotModified() throws Exception {
+		String lastModified = fullResponse().getHeader(HttpHeaders.LAST_MODIFIED);
+
+		mockMvc.perform(download().header(HttpHeaders.IF_MODIFIED_SINCE, lastModified))
+			.andExpect(status().isNotModified());
+	}
+
+	private MockHttpServletRequestBuilder download() {
+		return get(path).header(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+	}
+
+	private MockHttpServletResponse fullResponse() throws Exception {
+		return mockMvc.perform(download())
+			.andExpect(status().isOk())
+			.andReturn()
+			.getResponse();
+	}
+}
@@ -0,0 +1,228 @@
+package com.taskflow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.taskflow.entity.FileAttachment;
+import com.taskflow.entity.Project;
+import com.taskflow.entity.Task;
+import com.taskflow.entity.UploadSession;
+import com.taskflow.entity.User;
+import com.taskflow.repository.FileAttachmentRepository;
+import com.taskflow.repository.ProjectRepository;
+import com.taskflow.repository.TaskRepository;
+import com.taskflow.repository.UploadSessionRepository;
+import com.taskflow.repository.UserRepository;
+import com.taskflow.service.ChunkedUploadService;
+import com.taskflow.service.FileUploadService;
+
+/**
+ * Resumable uploads end to end against the database and local storage: resuming after a cut
+ * off chunk, checksum verification, repeated completion and session expiry.
+ */
+@SpringBootTest(properties = "file.upload-dir=target/chunked-upload-tests")
+class ChunkedUploadTests {
+
+	private static final int LENGTH = 100_000;
+	private static final Path PART_DIR = Paths.get("target/chunked-upload-tests/tmp");
+
+	@Autowired
+	private ChunkedUploadService chunkedUploadService;
+
+	@Autowired
+	private FileUploadService fileUploadService;
+
+	@Autowired
+	private UploadSessionRepository uploadSessionRepository;
+
+	@Autowired
+	private FileAttachmentRepository fileAttachmentRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private ProjectRepository projectRepository;
+
+	@Autowired
+	private TaskRepository taskRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private User user;
+	private Task task;
+	private byte[] contents;
+
+	@BeforeEach
+	void createTask() {
+		String run = UUID.randomUUID().toString();
+		user = userRepository.save(new User("upload-" + run + "@example.com", "hash"));
+		Project project = projectRepository.save(new Project("Upload " + run, user));
+		task = taskRepository.save(new Task("Task " + run, null, Task.Status.TODO, Task.Priority.MEDIUM, null, project));
+
+		// Unique per run, so each test stores its own object
+		contents = new byte[LENGTH];
+		byte[] marker = run.getBytes();
+		for (int i = 0; i < LENGTH; i++) {
+			contents[i] = i < marker.length ? marker[i] : (byte) (i * 31);
+		}
+	}
+
+	@Test
+	void resumesAfterChunkIsCutOff() throws Exception {
+		UploadSession session = start();
+
+		assertThatThrownBy(() -> chunkedUploadService.append(session, 0, cutOffAfter(contents, 30_000)))
+			.isInstanceOf(IOException.class);
+		long offset = chunkedUploadService.offset(session);
+		assertThat(offset).isEqualTo(30_000);
+
+		assertThat(chunkedUploadService.append(session, offset, chunk(offset, LENGTH))).isEqualTo(LENGTH);
+		FileAttachment attachment = chunkedUploadService.complete(session, sha256(contents), user);
+
+		assertThat(attachment.getFileSize()).isEqualTo(LENGTH);
+		assertThat(Files.readAllBytes(storedFile(attachment))).isEqualTo(contents);
+	}
+
+	@Test
+	void rejectsChunkAtWrongOffset() throws Exception {
+		UploadSession session = start();
+		chunkedUploadService.append(session, 0, chunk(0, 1000));
+
+		assertThatThrownBy(() -> chunkedUploadService.append(session, 0, chunk(0, 1000)))
+			.isInstanceOf(IllegalStateException.class);
+		assertThat(chunkedUploadService.offset(session)).isEqualTo(1000);
+	}
+
+	@Test
+	void completingAgainReturnsTheSameAttachment() throws Exception {
+		UploadSession session = start();
+		chunkedUploadService.append(session, 0, chunk(0, LENGTH));
+
+		FileAttachment first = chunkedUploadService.complete(session, sha256(contents), user);
+		FileAttachment second = chunkedUploadService.complete(session, sha256(contents), user);
+
+		assertThat(second.getId()).isEqualTo(first.getId());
+		assertThat(fileAttachmentRepository.countByStoragePath(first.getStoragePath())).isEqualTo(1);
+	}
+
+	@Test
+	void checksumMismatchDiscardsTheSession() throws Exception {
+		UploadSession session = start();
+		chunkedUploadService.append(session, 0, chunk(0, LENGTH));
+		byte[] other = contents.clone();
+		other[0] ^= 1;
+
+		assertThatThrownBy(() -> chunkedUploadService.complete(session, sha256(other), user))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessage("Checksum mismatch");
+		assertThat(uploadSessionRepository.existsById(session.getId())).isFalse();
+		assertThat(partFile(session)).doesNotExist();
+		assertThat(fileUploadService.fileExists(sha256(other))).isFalse();
+	}
+
+	@Test
+	void expiresSessionsIdleForTheTtl() throws Exception {
+		UploadSession idle = start();
+		chunkedUploadService.append(idle, 0, chunk(0, 1000));
+		UploadSession active = start();
+		chunkedUploadService.append(active, 0, chunk(0, 1000));
+		jdbcTemplate.update("update upload_sessions set last_chunk_at = ? where id = ?",
+			Timestamp.valueOf(LocalDateTime.now().minusDays(2)), idle.getId());
+
+		chunkedUploadService.expireSessions();
+
+		assertThat(uploadSessionRepository.existsById(idle.getId())).isFalse();
+		assertThat(partFile(idle)).doesNotExist();
+		assertThat(uploadSessionRepository.existsById(active.getId())).isTrue();
+		assertThat(chunkedUploadService.offset(active)).isEqualTo(1000);
+		assertThatThrownBy(() -> chunkedUploadService.append(idle, 1000, chunk(1000, 2000)))
+			.hasMessage("Upload not found");
+	}
+
+	@Test
+	void removesStalePartFilesWithoutSession() throws Exception {
+		Path orphan = PART_DIR.resolve("session-" + UUID.randomUUID() + ".part");
+		Files.write(orphan, new byte[10]);
+		Files.setLastModifiedTime(orphan, FileTime.fromMillis(System.currentTimeMillis() - 2 * 86_400_000L));
+		UploadSession kept = start();
+		Files.setLastModifiedTime(partFile(kept), FileTime.fromMillis(System.currentTimeMillis() - 2 * 86_400_000L));
+
+		chunkedUploadService.expireSessions();
+
+		assertThat(orphan).doesNotExist();
+		// Its last chunk may have gone to another node; the row says it is still alive
+		assertThat(partFile(kept)).exists();
+	}
+
+	private UploadSession start() throws IOException {
+		return chunkedUploadService.start(user, task, null, "data.bin", "application/octet-stream", (long) LENGTH);
+	}
+
+	private InputStream chunk(long from, long to) {
+		return new ByteArrayInputStream(Arrays.copyOfRange(contents, (int) from, (int) to));
+	}
+
+	/**
+	 * Delivers the first {@code length} bytes, then fails like a dropped connection.
+	 */
+	private static InputStream cutOffAfter(byte[] data, int length) {
+		InputStream received = new ByteArrayInputStream(data, 0, length);
+		return new InputStream() {
+			@Override
+			public int read() throws IOException {
+				byte[] one = new byte[1];
+				return read(one, 0, 1) < 0 ? -1 : one[0] & 0xff;
+			}
+
+			@Override
+			public int read(byte[] buffer, int offset, int count) throws IOException {
+				int read = received.read(buffer, offset, count);
+				if (read < 0) {
+					throw new IOException("Connection reset");
+				}
+				return read;
+			}
+		};
+	}
+
+	private static Path partFile(UploadSession session) {
+		return PART_DIR.resolve("session-" + session.getId() + ".part");
+	}
+
+	private Path storedFile(FileAttachment attachment) throws IOException {
+		Path copy = Files.createTempFile("stored-", ".bin");
+		try (InputStream in = Channels.newInputStream(
+				fileUploadService.open(attachment.getStoragePath(), 0, attachment.getFileSize()))) {
+			Files.copy(in, copy, StandardCopyOption.REPLACE_EXISTING);
+		}
+		return copy;
+	}
+
+	private static String sha256(byte[] data) throws Exception {
+		return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+	}
+}
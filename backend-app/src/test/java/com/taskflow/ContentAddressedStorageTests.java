@@ -0,0 +1,135 @@
+package com.taskflow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+
+import com.taskflow.entity.FileAttachment;
+import com.taskflow.entity.Project;
+import com.taskflow.entity.Task;
+import com.taskflow.entity.User;
+import com.taskflow.repository.FileAttachmentRepository;
+import com.taskflow.repository.ProjectRepository;
+import com.taskflow.repository.TaskRepository;
+import com.taskflow.repository.UserRepository;
+import com.taskflow.service.FileUploadService;
+
+/**
+ * Deduplicated attachment storage on the local backend: identical uploads share one object,
+ * which is kept, with its preview, until the last attachment referencing it is deleted.
+ */
+@SpringBootTest(properties = "file.upload-dir=target/content-storage-tests")
+class ContentAddressedStorageTests {
+
+	private static final Path ROOT = Paths.get("target/content-storage-tests");
+
+	@Autowired
+	private FileUploadService fileUploadService;
+
+	@Autowired
+	private FileAttachmentRepository fileAttachmentRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private ProjectRepository projectRepository;
+
+	@Autowired
+	private TaskRepository taskRepository;
+
+	private User owner;
+	private Task task;
+	private byte[] contents;
+
+	@BeforeEach
+	void createTask() {
+		String run = UUID.randomUUID().toString();
+		owner = userRepository.save(new User("storage-" + run + "@example.com", "hash"));
+		Project project = projectRepository.save(new Project("Storage " + run, owner));
+		task = taskRepository.save(new Task("Task " + run, null, Task.Status.TODO, Task.Priority.MEDIUM, null, project));
+		// Unique per run, so each test gets its own stored object
+		contents = ("contents of " + run).getBytes();
+	}
+
+	@Test
+	void identicalUploadsShareOneObject() throws Exception {
+		FileAttachment first = upload("a.txt");
+		FileAttachment second = upload("b.txt");
+
+		assertThat(second.getStoragePath()).isEqualTo(first.getStoragePath());
+		assertThat(storedCopies(first.getStoragePath())).isEqualTo(1);
+		assertThat(fileAttachmentRepository.countByStoragePath(first.getStoragePath())).isEqualTo(2);
+	}
+
+	@Test
+	void differentContentIsStoredSeparately() throws Exception {
+		FileAttachment first = upload("a.txt");
+		contents = (new String(contents) + " changed").getBytes();
+		FileAttachment second = upload("a.txt");
+
+		assertThat(second.getStoragePath()).isNotEqualTo(first.getStoragePath());
+	}
+
+	@Test
+	void onlyTheLastReferenceDeletesTheObjectAndPreview() throws Exception {
+		FileAttachment first = upload("a.txt");
+		FileAttachment second = upload("b.txt");
+		String key = first.getStoragePath();
+		Path preview = Files.createTempFile("preview-", ".jpg");
+		Files.write(preview, new byte[] {1, 2, 3});
+		fileUploadService.saveThumbnail(key, preview);
+
+		fileAttachmentRepository.delete(first);
+		fileUploadService.deleteFile(key);
+
+		assertThat(fileUploadService.fileExists(key)).isTrue();
+		assertThat(fileUploadService.fileExists(fileUploadService.getThumbnailKey(key))).isTrue();
+
+		fileAttachmentRepository.delete(second);
+		fileUploadService.deleteFile(key);
+
+		assertThat(fileUploadService.fileExists(key)).isFalse();
+		assertThat(fileUploadService.fileExists(fileUploadService.getThumbnailKey(key))).isFalse();
+		assertThat(storedCopies(key)).isZero();
+	}
+
+	@Test
+	void uploadingAgainAfterDeletionStoresTheObjectAgain() throws Exception {
+		FileAttachment first = upload("a.txt");
+		String key = first.getStoragePath();
+		fileAttachmentRepository.delete(first);
+		fileUploadService.deleteFile(key);
+
+		FileAttachment second = upload("a.txt");
+
+		assertThat(second.getStoragePath()).isEqualTo(key);
+		assertThat(fileUploadService.fileExists(key)).isTrue();
+	}
+
+	private FileAttachment upload(String fileName) throws IOException {
+		MockMultipartFile file = new MockMultipartFile("file", fileName, "application/octet-stream", contents);
+		return fileUploadService.saveFile(file, storagePath -> {
+			FileAttachment created = new FileAttachment(fileName, "application/octet-stream", (long) contents.length, storagePath, owner);
+			created.setTask(task);
+			return fileAttachmentRepository.save(created);
+		});
+	}
+
+	private static long storedCopies(String key) throws IOException {
+		try (Stream<Path> files = Files.walk(ROOT)) {
+			return files.filter(path -> path.getFileName().toString().equals(key)).count();
+		}
+	}
+}
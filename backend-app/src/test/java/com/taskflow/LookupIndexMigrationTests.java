@@ -0,0 +1,48 @@
+package com.taskflow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.UUID;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+/**
+ * V2 on a database that already holds duplicate memberships and assignments, which the unique
+ * indexes would otherwise reject.
+ */
+class LookupIndexMigrationTests {
+
+	@Test
+	void removesDuplicatesBeforeAddingUniqueIndexes() {
+		DriverManagerDataSource dataSource = new DriverManagerDataSource(
+			"jdbc:h2:mem:migration-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+		JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+		flyway(dataSource, "1").migrate();
+
+		jdbc.update("insert into users (id, email, password_hash) values (1, 'a@example.com', 'hash'), (2, 'b@example.com', 'hash')");
+		jdbc.update("insert into project (id, name, owner_id) values (1, 'Project', 1)");
+		jdbc.update("insert into task (id, title, status, priority, project_id) values (1, 'Task', 'TODO', 'MEDIUM', 1)");
+		jdbc.update("insert into project_users (id, project_id, user_id, role) values (1, 1, 2, 'MEMBER'), (2, 1, 2, 'ADMIN'), (3, 1, 1, 'OWNER')");
+		jdbc.update("insert into task_assignments (id, task_id, user_id) values (1, 1, 2), (2, 1, 2), (3, 1, 2), (4, 1, 1)");
+
+		flyway(dataSource, "2").migrate();
+
+		assertThat(jdbc.queryForList("select id from project_users order by id", Long.class)).containsExactly(1L, 3L);
+		assertThat(jdbc.queryForList("select id from task_assignments order by id", Long.class)).containsExactly(1L, 4L);
+		assertThatThrownBy(() -> jdbc.update("insert into task_assignments (task_id, user_id) values (1, 2)"))
+			.isInstanceOf(DuplicateKeyException.class);
+	}
+
+	private static Flyway flyway(DriverManagerDataSource dataSource, String target) {
+		return Flyway.configure()
+			.dataSource(dataSource)
+			.locations("classpath:db/migration", "classpath:db/vendor/h2")
+			.target(target)
+			.load();
+	}
+}
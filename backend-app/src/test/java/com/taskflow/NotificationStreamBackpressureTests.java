@@ -0,0 +1,103 @@
+package com.taskflow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.taskflow.security.JwtUtil;
+import com.taskflow.service.NotificationStreamService;
+import com.taskflow.service.UnreadNotificationCounter;
+
+/**
+ * A client that stops reading must not hold up delivery to other streams, even when a single
+ * dispatcher thread serves them all.
+ */
+@SpringBootTest(
+	webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+	properties = "app.sse.dispatcher-threads=1"
+)
+class NotificationStreamBackpressureTests {
+
+	private static final long STALLED_USER_ID = 2_000_001L;
+	private static final long HEALTHY_USER_ID = 2_000_002L;
+	private static final int UNREAD_COUNT = 31337;
+
+	@Value("${local.server.port}")
+	private int port;
+
+	@Autowired
+	private JwtUtil jwtUtil;
+
+	@Autowired
+	private NotificationStreamService streamService;
+
+	@Autowired
+	private UnreadNotificationCounter unreadCounter;
+
+	@Test
+	void stalledClientDoesNotDelayOtherStreams() throws Exception {
+		int baseline = streamService.connectionCount();
+
+		try (Socket stalled = new Socket()) {
+			// A tiny receive window that is never drained
+			stalled.setReceiveBufferSize(1024);
+			stalled.connect(new InetSocketAddress("localhost", port));
+			OutputStream request = stalled.getOutputStream();
+			request.write(("GET " + streamPath(STALLED_USER_ID) + " HTTP/1.1\r\n"
+				+ "Host: localhost\r\nAccept: text/event-stream\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+			request.flush();
+			awaitConnections(baseline + 1);
+
+			CompletableFuture<Void> received = new CompletableFuture<>();
+			HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+			client.sendAsync(
+				HttpRequest.newBuilder(URI.create("http://localhost:" + port + streamPath(HEALTHY_USER_ID)))
+					.header("Accept", "text/event-stream")
+					.build(),
+				HttpResponse.BodyHandlers.ofLines())
+				.thenAccept(response -> response.body()
+					.filter(line -> line.startsWith("data:") && line.contains(String.valueOf(UNREAD_COUNT)))
+					.findFirst()
+					.ifPresent(line -> received.complete(null)));
+			awaitConnections(baseline + 2);
+
+			// Several megabytes for the stalled client, far more than the socket buffers hold
+			String payload = "\"" + "x".repeat(256 * 1024) + "\"";
+			for (int i = 0; i < 20; i++) {
+				streamService.sendEvent(STALLED_USER_ID, "bulk", payload);
+			}
+			Thread.sleep(500);
+
+			unreadCounter.set(HEALTHY_USER_ID, UNREAD_COUNT);
+			streamService.sendUnreadChange(HEALTHY_USER_ID, 0);
+
+			received.get(5, TimeUnit.SECONDS);
+		}
+	}
+
+	private String streamPath(long userId) {
+		return "/api/notifications/stream?token=" + jwtUtil.generateToken(userId, "stream-" + userId + "@example.com");
+	}
+
+	private void awaitConnections(int expected) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (streamService.connectionCount() < expected && System.nanoTime() < deadline) {
+			Thread.sleep(20);
+		}
+		assertThat(streamService.connectionCount()).isGreaterThanOrEqualTo(expected);
+	}
+}
@@ -0,0 +1,158 @@
+package com.taskflow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.taskflow.security.JwtUtil;
+import com.taskflow.service.NotificationStreamService;
+import com.taskflow.service.UnreadNotificationCounter;
+
+/**
+ * Opens N notification streams against a local server, then reports heap per connection and
+ * the latency of one unread-count broadcast reaching every stream. Not part of the regular
+ * suite; run it with {@code mvn test -Dtest=NotificationStreamLoadHarness -Dsse.load.connections=N}
+ * after raising the file descriptor limit for large N.
+ *
+ * Clients run in the same JVM, so the heap figure is an upper bound that includes the client
+ * side of each connection.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@EnabledIfSystemProperty(named = "sse.load.connections", matches = "\\d+")
+class NotificationStreamLoadHarness {
+
+	private static final long FIRST_USER_ID = 1_000_000L;
+	private static final int BROADCAST_COUNT = 424242;
+	private static final int CONNECT_CONCURRENCY = 500;
+
+	@Value("${local.server.port}")
+	private int port;
+
+	@Autowired
+	private JwtUtil jwtUtil;
+
+	@Autowired
+	private NotificationStreamService streamService;
+
+	@Autowired
+	private UnreadNotificationCounter unreadCounter;
+
+	private volatile long broadcastStartedAt;
+
+	@Test
+	void broadcastToOpenStreams() throws Exception {
+		int connections = Integer.getInteger("sse.load.connections");
+		HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+		CountDownLatch connected = new CountDownLatch(connections);
+		CountDownLatch delivered = new CountDownLatch(connections);
+		long[] latencies = new long[connections];
+		Semaphore connecting = new Semaphore(CONNECT_CONCURRENCY);
+
+		int baselineConnections = streamService.connectionCount();
+		long heapBefore = usedHeap();
+		long connectStartedAt = System.nanoTime();
+
+		for (int i = 0; i < connections; i++) {
+			long userId = FIRST_USER_ID + i;
+			String token = jwtUtil.generateToken(userId, "load-" + userId + "@example.com");
+			HttpRequest request = HttpRequest.newBuilder(
+					URI.create("http://localhost:" + port + "/api/notifications/stream?token=" + token))
+				.header("Accept", "text/event-stream")
+				.build();
+			connecting.acquire();
+			client.sendAsync(request, HttpResponse.BodyHandlers.fromLineSubscriber(
+					new StreamClient(i, connected, delivered, latencies, connecting)))
+				.exceptionally(error -> {
+					connecting.release();
+					return null;
+				});
+		}
+
+		assertThat(connected.await(5, TimeUnit.MINUTES)).as("all streams connected").isTrue();
+		while (streamService.connectionCount() - baselineConnections < connections) {
+			Thread.sleep(50);
+		}
+		long connectMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - connectStartedAt);
+		long heapAfter = usedHeap();
+
+		broadcastStartedAt = System.nanoTime();
+		for (int i = 0; i < connections; i++) {
+			unreadCounter.set(FIRST_USER_ID + i, BROADCAST_COUNT);
+			streamService.sendUnreadChange(FIRST_USER_ID + i, 0);
+		}
+		long enqueueMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - broadcastStartedAt);
+		assertThat(delivered.await(5, TimeUnit.MINUTES)).as("broadcast reached every stream").isTrue();
+
+		Arrays.sort(latencies);
+		System.out.printf("connections=%d connect=%dms heap/connection=%d bytes%n",
+			connections, connectMillis, (heapAfter - heapBefore) / connections);
+		System.out.printf("broadcast enqueue=%dus p50=%dms p99=%dms max=%dms%n",
+			enqueueMicros,
+			TimeUnit.NANOSECONDS.toMillis(latencies[connections / 2]),
+			TimeUnit.NANOSECONDS.toMillis(latencies[(int) (connections * 0.99)]),
+			TimeUnit.NANOSECONDS.toMillis(latencies[connections - 1]));
+	}
+
+	private static long usedHeap() throws InterruptedException {
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+			Thread.sleep(200);
+		}
+		return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+	}
+
+	private final class StreamClient implements Flow.Subscriber<String> {
+
+		private final int index;
+		private final CountDownLatch connected;
+		private final CountDownLatch delivered;
+		private final long[] latencies;
+		private final Semaphore connecting;
+
+		StreamClient(int index, CountDownLatch connected, CountDownLatch delivered, long[] latencies, Semaphore connecting) {
+			this.index = index;
+			this.connected = connected;
+			this.delivered = delivered;
+			this.latencies = latencies;
+			this.connecting = connecting;
+		}
+
+		@Override
+		public void onSubscribe(Flow.Subscription subscription) {
+			subscription.request(Long.MAX_VALUE);
+			connecting.release();
+			connected.countDown();
+		}
+
+		@Override
+		public void onNext(String line) {
+			if (line.startsWith("data:") && line.contains(String.valueOf(BROADCAST_COUNT))) {
+				latencies[index] = System.nanoTime() - broadcastStartedAt;
+				delivered.countDown();
+			}
+		}
+
+		@Override
+		public void onError(Throwable error) {
+		}
+
+		@Override
+		public void onComplete() {
+		}
+	}
+}
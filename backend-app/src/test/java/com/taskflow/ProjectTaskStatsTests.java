@@ -0,0 +1,122 @@
+package com.taskflow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.taskflow.entity.Project;
+import com.taskflow.entity.ProjectTaskStats;
+import com.taskflow.entity.Task;
+import com.taskflow.entity.User;
+import com.taskflow.repository.ProjectRepository;
+import com.taskflow.repository.ProjectTaskStatsRepository;
+import com.taskflow.repository.TaskRepository;
+import com.taskflow.repository.UserRepository;
+import com.taskflow.service.ProjectTaskStatsService;
+
+/**
+ * Counter repair: the batched reconcile and the create-or-recount of a single project.
+ */
+@SpringBootTest(properties = "app.stats.reconcile-batch-size=2")
+class ProjectTaskStatsTests {
+
+	@Autowired
+	private ProjectTaskStatsService statsService;
+
+	@Autowired
+	private ProjectTaskStatsRepository statsRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private ProjectRepository projectRepository;
+
+	@Autowired
+	private TaskRepository taskRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void reconcileRepairsEveryProjectAcrossBatches() {
+		List<Project> projects = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			Project project = project();
+			taskRepository.save(new Task("Open " + i, null, Task.Status.TODO, Task.Priority.MEDIUM, LocalDate.now().minusDays(1), project));
+			taskRepository.save(new Task("Done " + i, null, Task.Status.DONE, Task.Priority.MEDIUM, null, project));
+			projects.add(project);
+		}
+		// One project has no counters at all, the rest have drifted
+		jdbcTemplate.update("delete from project_task_stats where project_id = ?", projects.get(0).getId());
+		for (Project project : projects.subList(1, projects.size())) {
+			jdbcTemplate.update("update project_task_stats set total = 42, todo = 0, done = 7, overdue = 3 where project_id = ?", project.getId());
+		}
+
+		statsService.reconcile();
+
+		for (Project project : projects) {
+			ProjectTaskStats stats = statsRepository.findById(project.getId()).orElseThrow();
+			assertThat(stats.getTotal()).isEqualTo(2);
+			assertThat(stats.getTodo()).isEqualTo(1);
+			assertThat(stats.getDone()).isEqualTo(1);
+			assertThat(stats.getOverdue()).isEqualTo(1);
+		}
+	}
+
+	@Test
+	void concurrentRecomputesOfAMissingRowBothSucceed() throws Exception {
+		Project project = project();
+		taskRepository.save(new Task("Open", null, Task.Status.IN_PROGRESS, Task.Priority.LOW, null, project));
+		ExecutorService pool = Executors.newFixedThreadPool(4);
+		try {
+			for (int round = 0; round < 10; round++) {
+				jdbcTemplate.update("delete from project_task_stats where project_id = ?", project.getId());
+				List<Future<?>> recomputes = new ArrayList<>();
+				for (int i = 0; i < 4; i++) {
+					recomputes.add(pool.submit(() -> statsService.recompute(project.getId())));
+				}
+				for (Future<?> recompute : recomputes) {
+					recompute.get(10, TimeUnit.SECONDS);
+				}
+			}
+		} finally {
+			pool.shutdownNow();
+		}
+
+		ProjectTaskStats stats = statsRepository.findById(project.getId()).orElseThrow();
+		assertThat(stats.getTotal()).isEqualTo(1);
+		assertThat(stats.getInProgress()).isEqualTo(1);
+	}
+
+	@Test
+	void changeToProjectWithoutCountersCreatesThem() {
+		Project project = project();
+		Task task = taskRepository.save(new Task("Open", null, Task.Status.TODO, Task.Priority.LOW, null, project));
+		jdbcTemplate.update("delete from project_task_stats where project_id = ?", project.getId());
+
+		statsService.taskCreated(task);
+
+		assertThat(statsRepository.findById(project.getId()).orElseThrow().getTodo()).isEqualTo(1);
+	}
+
+	private Project project() {
+		String run = UUID.randomUUID().toString();
+		User owner = userRepository.save(new User("stats-" + run + "@example.com", "hash"));
+		Project project = projectRepository.save(new Project("Stats " + run, owner));
+		statsService.projectCreated(project.getId());
+		return project;
+	}
+}
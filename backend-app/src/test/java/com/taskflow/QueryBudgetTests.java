@@ -0,0 +1,173 @@
+package com.taskflow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.taskflow.controller.CommentController;
+import com.taskflow.controller.FileAttachmentController;
+import com.taskflow.controller.ProjectController;
+import com.taskflow.controller.TaskController;
+import com.taskflow.entity.Comment;
+import com.taskflow.entity.FileAttachment;
+import com.taskflow.entity.Project;
+import com.taskflow.entity.ProjectUser;
+import com.taskflow.entity.Task;
+import com.taskflow.entity.TaskAssignment;
+import com.taskflow.entity.User;
+import com.taskflow.repository.CommentRepository;
+import com.taskflow.repository.FileAttachmentRepository;
+import com.taskflow.repository.ProjectRepository;
+import com.taskflow.repository.ProjectUserRepository;
+import com.taskflow.repository.TaskAssignmentRepository;
+import com.taskflow.repository.TaskRepository;
+import com.taskflow.repository.UserRepository;
+import com.taskflow.security.AuthenticatedUser;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Guards the list endpoints against N+1 regressions: each one must run the same number of
+ * statements whether it returns a few rows or many, and stay within its budget.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class QueryBudgetTests {
+
+	private static final int FEW = 2;
+	private static final int MANY = 12;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private ProjectRepository projectRepository;
+
+	@Autowired
+	private ProjectUserRepository projectUserRepository;
+
+	@Autowired
+	private TaskRepository taskRepository;
+
+	@Autowired
+	private TaskAssignmentRepository taskAssignmentRepository;
+
+	@Autowired
+	private CommentRepository commentRepository;
+
+	@Autowired
+	private FileAttachmentRepository fileAttachmentRepository;
+
+	@Autowired
+	private ProjectController projectController;
+
+	@Autowired
+	private TaskController taskController;
+
+	@Autowired
+	private CommentController commentController;
+
+	@Autowired
+	private FileAttachmentController fileAttachmentController;
+
+	@AfterEach
+	void clearAuthentication() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void listProjectsRunsFixedStatements() {
+		assertBudget(3, fixture -> projectController.listProjects());
+	}
+
+	@Test
+	void projectMembersRunFixedStatements() {
+		assertBudget(3, fixture -> projectController.getProjectMembers(fixture.project().getId()));
+	}
+
+	@Test
+	void taskAssigneesRunFixedStatements() {
+		assertBudget(4, fixture -> taskController.getTaskAssignees(fixture.project().getId(), fixture.task().getId()));
+	}
+
+	@Test
+	void commentsRunFixedStatements() {
+		assertBudget(4, fixture -> commentController.listComments(fixture.project().getId(), fixture.task().getId()));
+	}
+
+	@Test
+	void taskAttachmentsRunFixedStatements() {
+		assertBudget(4, fixture -> fileAttachmentController.getTaskAttachments(fixture.project().getId(), fixture.task().getId()));
+	}
+
+	private void assertBudget(long budget, Function<Fixture, ResponseEntity<?>> endpoint) {
+		long few = countStatements(seed(FEW), endpoint);
+		long many = countStatements(seed(MANY), endpoint);
+
+		assertThat(many).as("statements with %d rows vs %d rows", MANY, FEW).isEqualTo(few);
+		assertThat(many).as("statement budget").isLessThanOrEqualTo(budget);
+	}
+
+	// Runs the call in one transaction, the way open-session-in-view serves a request
+	private long countStatements(Fixture fixture, Function<Fixture, ResponseEntity<?>> endpoint) {
+		AuthenticatedUser principal = new AuthenticatedUser(fixture.owner().getId(), fixture.owner().getEmail());
+		SecurityContextHolder.getContext()
+			.setAuthentication(new UsernamePasswordAuthenticationToken(principal, null, List.of()));
+
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		ResponseEntity<?> response = new TransactionTemplate(transactionManager).execute(status -> {
+			statistics.clear();
+			return endpoint.apply(fixture);
+		});
+		long statements = statistics.getPrepareStatementCount();
+
+		assertThat(response.getStatusCode().is2xxSuccessful()).as("response %s", response.getBody()).isTrue();
+		return statements;
+	}
+
+	// One project with a task carrying a member, assignee, comment and attachment per row.
+	// The owner is also a member of one project per row, each owned by someone else.
+	private Fixture seed(int rows) {
+		String run = UUID.randomUUID().toString();
+		User owner = userRepository.save(new User("owner-" + run + "@example.com", "hash"));
+		Project project = projectRepository.save(new Project("Budget " + run, owner));
+		Task task = taskRepository.save(new Task("Task " + run, null, Task.Status.TODO, Task.Priority.MEDIUM, null, project));
+
+		for (int i = 0; i < rows; i++) {
+			User user = userRepository.save(new User("user-" + i + "-" + run + "@example.com", "hash"));
+			projectUserRepository.save(new ProjectUser(project, user, "MEMBER"));
+			taskAssignmentRepository.save(new TaskAssignment(task, user));
+			commentRepository.save(new Comment("Comment " + i, task, user));
+
+			FileAttachment attachment = new FileAttachment("file-" + i + ".txt", "text/plain", 1L, "stored-" + i, user);
+			attachment.setTask(task);
+			fileAttachmentRepository.save(attachment);
+
+			Project shared = projectRepository.save(new Project("Shared " + i + " " + run, user));
+			projectUserRepository.save(new ProjectUser(shared, owner, "VIEWER"));
+		}
+		return new Fixture(owner, project, task);
+	}
+
+	private record Fixture(User owner, Project project, Task task) {
+	}
+}
@@ -0,0 +1,221 @@
+package com.taskflow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.taskflow.entity.Project;
+import com.taskflow.entity.Task;
+import com.taskflow.entity.User;
+import com.taskflow.repository.ProjectRepository;
+import com.taskflow.repository.TaskCursor;
+import com.taskflow.repository.TaskQuery;
+import com.taskflow.repository.TaskRepository;
+import com.taskflow.repository.UserRepository;
+import com.taskflow.security.JwtUtil;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Keyset paging of a project's tasks, through the repository query and the page endpoint.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class TaskPagingTests {
+
+	private static final LocalDate DAY = LocalDate.of(2026, 5, 1);
+
+	private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private JwtUtil jwtUtil;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private ProjectRepository projectRepository;
+
+	@Autowired
+	private TaskRepository taskRepository;
+
+	private Project project;
+	private String token;
+	private List<Task> tasks;
+
+	@BeforeEach
+	void createTasks() {
+		String run = UUID.randomUUID().toString();
+		User owner = userRepository.save(new User("paging-" + run + "@example.com", "hash"));
+		project = projectRepository.save(new Project("Paging " + run, owner));
+		token = jwtUtil.generateToken(owner.getId(), owner.getEmail());
+
+		// Ties on both sort keys, and undated tasks, which sort last
+		tasks = new ArrayList<>(List.of(
+			task(DAY.plusDays(1), Task.Priority.HIGH, Task.Status.TODO),
+			task(DAY, Task.Priority.LOW, Task.Status.DONE),
+			task(null, Task.Priority.MEDIUM, Task.Status.TODO),
+			task(DAY.plusDays(1), Task.Priority.HIGH, Task.Status.TODO),
+			task(DAY, Task.Priority.MEDIUM, Task.Status.IN_PROGRESS),
+			task(null, Task.Priority.HIGH, Task.Status.TODO),
+			task(DAY.plusDays(1), Task.Priority.LOW, Task.Status.TODO)
+		));
+	}
+
+	@Test
+	void repositoryContinuesAfterTheCursorOnTies() {
+		TaskQuery first = query(TaskQuery.SortKey.DUE_DATE, false, 3);
+
+		List<Task> page = taskRepository.findTasks(first);
+		assertThat(page).hasSize(4);
+		List<Task> rest = taskRepository.findTasks(first.withAfter(TaskCursor.of(page.get(2), TaskQuery.SortKey.DUE_DATE)));
+
+		List<Long> seen = new ArrayList<>(ids(page.subList(0, 3)));
+		seen.addAll(ids(rest));
+		assertThat(seen).isEqualTo(expected(byDueDate()));
+	}
+
+	@Test
+	void pagesByDueDateInBothDirections() throws Exception {
+		assertThat(pageThrough("dueDate", "asc", 2, null)).isEqualTo(expected(byDueDate()));
+		assertThat(pageThrough("dueDate", "desc", 2, null)).isEqualTo(expected(byDueDate().reversed()));
+	}
+
+	@Test
+	void pagesByPriorityInBothDirections() throws Exception {
+		assertThat(pageThrough("priority", "asc", 3, null)).isEqualTo(expected(byPriority()));
+		assertThat(pageThrough("priority", "desc", 3, null)).isEqualTo(expected(byPriority().reversed()));
+	}
+
+	@Test
+	void pagesByIdWithStatusFilter() throws Exception {
+		List<Long> todo = tasks.stream()
+			.filter(task -> task.getStatus() == Task.Status.TODO)
+			.map(Task::getId)
+			.sorted()
+			.toList();
+
+		assertThat(pageThrough(null, "asc", 2, "TODO")).isEqualTo(todo);
+	}
+
+	@Test
+	void tasksAddedBehindTheCursorDoNotShiftLaterPages() throws Exception {
+		JsonNode first = page("dueDate", "asc", 3, null, null);
+		task(DAY.minusDays(1), Task.Priority.LOW, Task.Status.TODO);
+
+		List<Long> seen = ids(first.get("items"));
+		String cursor = first.get("nextCursor").asString();
+		while (cursor != null) {
+			JsonNode next = page("dueDate", "asc", 3, null, cursor);
+			seen.addAll(ids(next.get("items")));
+			cursor = next.get("hasMore").asBoolean() ? next.get("nextCursor").asString() : null;
+		}
+		assertThat(seen).isEqualTo(expected(byDueDate()));
+	}
+
+	@Test
+	void rejectsMalformedCursorAndCursorForAnotherSort() throws Exception {
+		String priorityCursor = page("priority", "asc", 2, null, null).get("nextCursor").asString();
+
+		mockMvc.perform(request("/page").param("cursor", "garbage")).andExpect(status().isBadRequest());
+		mockMvc.perform(request("/page").param("sort", "dueDate").param("cursor", priorityCursor))
+			.andExpect(status().isBadRequest());
+	}
+
+	@Test
+	void unknownFilterValues() throws Exception {
+		mockMvc.perform(request("").param("status", "ARCHIVED"))
+			.andExpect(status().isOk())
+			.andExpect(content().json("[]"));
+		mockMvc.perform(request("").param("priority", "urgent"))
+			.andExpect(status().isOk())
+			.andExpect(content().json("[]"));
+		mockMvc.perform(request("/page").param("status", "ARCHIVED")).andExpect(status().isBadRequest());
+	}
+
+	private List<Long> pageThrough(String sort, String direction, int limit, String statusFilter) throws Exception {
+		List<Long> seen = new ArrayList<>();
+		String cursor = null;
+		do {
+			JsonNode page = page(sort, direction, limit, statusFilter, cursor);
+			seen.addAll(ids(page.get("items")));
+			cursor = page.get("hasMore").asBoolean() ? page.get("nextCursor").asString() : null;
+		} while (cursor != null);
+		return seen;
+	}
+
+	private JsonNode page(String sort, String direction, int limit, String statusFilter, String cursor) throws Exception {
+		MockHttpServletRequestBuilder request = request("/page")
+			.param("direction", direction)
+			.param("limit", String.valueOf(limit));
+		if (sort != null) {
+			request.param("sort", sort);
+		}
+		if (statusFilter != null) {
+			request.param("status", statusFilter);
+		}
+		if (cursor != null) {
+			request.param("cursor", cursor);
+		}
+		return jsonMapper.readTree(mockMvc.perform(request)
+			.andExpect(status().isOk())
+			.andReturn().getResponse().getContentAsString());
+	}
+
+	private MockHttpServletRequestBuilder request(String path) {
+		return get("/api/projects/" + project.getId() + "/tasks" + path)
+			.header(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+	}
+
+	private TaskQuery query(TaskQuery.SortKey sortKey, boolean descending, int limit) {
+		return new TaskQuery(project.getId(), null, null, null, null, sortKey, descending, null, limit);
+	}
+
+	private Task task(LocalDate dueDate, Task.Priority priority, Task.Status status) {
+		return taskRepository.save(new Task("Task", null, status, priority, dueDate, project));
+	}
+
+	private List<Long> expected(Comparator<Task> order) {
+		return tasks.stream().sorted(order).map(Task::getId).toList();
+	}
+
+	private static Comparator<Task> byDueDate() {
+		return Comparator.<Task, LocalDate>comparing(task -> task.getDueDate() != null ? task.getDueDate() : TaskQuery.NO_DUE_DATE)
+			.thenComparing(Task::getId);
+	}
+
+	private static Comparator<Task> byPriority() {
+		return Comparator.<Task>comparingInt(task -> TaskQuery.priorityRank(task.getPriority()))
+			.thenComparing(Task::getId);
+	}
+
+	private static List<Long> ids(List<Task> tasks) {
+		return new ArrayList<>(tasks.stream().map(Task::getId).toList());
+	}
+
+	private static List<Long> ids(JsonNode items) {
+		List<Long> ids = new ArrayList<>();
+		items.forEach(item -> ids.add(item.get("id").asLong()));
+		return ids;
+	}
+}
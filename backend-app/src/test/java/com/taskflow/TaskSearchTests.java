@@ -0,0 +1,231 @@
+package com.taskflow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.taskflow.entity.Project;
+import com.taskflow.entity.User;
+import com.taskflow.repository.ProjectRepository;
+import com.taskflow.repository.TaskRepository;
+import com.taskflow.repository.UserRepository;
+import com.taskflow.security.JwtUtil;
+import com.taskflow.service.NotificationBus;
+import com.taskflow.service.TaskSearchIndex;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Task search through the controller: kept current as tasks change, answered the same way from
+ * SQL while the index is loading, and shared with other nodes over the bus.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class TaskSearchTests {
+
+	private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private JwtUtil jwtUtil;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private ProjectRepository projectRepository;
+
+	@Autowired
+	private TaskRepository taskRepository;
+
+	@Autowired
+	private TaskSearchIndex taskSearchIndex;
+
+	@Autowired
+	private NotificationBus bus;
+
+	private Project project;
+	private String token;
+
+	@BeforeEach
+	void createProject() {
+		String run = UUID.randomUUID().toString();
+		User owner = userRepository.save(new User("search-" + run + "@example.com", "hash"));
+		project = projectRepository.save(new Project("Search " + run, owner));
+		token = jwtUtil.generateToken(owner.getId(), owner.getEmail());
+	}
+
+	@AfterEach
+	void markReady() {
+		ReflectionTestUtils.setField(taskSearchIndex, "ready", true);
+	}
+
+	@Test
+	void findsCreatedUpdatedAndDeletedTasks() throws Exception {
+		long reportId = createTask("Quarterly report", "Numbers for the board");
+		createTask("Team lunch", "Book a table");
+
+		assertThat(search("report")).containsExactly(reportId);
+		assertThat(search("quart")).containsExactly(reportId);
+
+		update(reportId, "Quarterly summary");
+		assertThat(search("report")).isEmpty();
+		assertThat(search("summary")).containsExactly(reportId);
+
+		mockMvc.perform(delete(tasksPath() + "/" + reportId).header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+			.andExpect(status().isNoContent());
+		assertThat(search("summary")).isEmpty();
+	}
+
+	@Test
+	void searchWhileLoadingMatchesLikeTheIndex() throws Exception {
+		long reportId = createTask("Quarterly report", "Export the numbers");
+		long portId = createTask("Port checks", "Harbour report due");
+		createTask("Reporting tool", null);
+		List<String> queries = List.of("report", "port", "\"quarterly report\"", "rep num", "xyz", "!!");
+
+		List<List<Long>> fromIndex = queries.stream().map(this::searchQuietly).toList();
+		ReflectionTestUtils.setField(taskSearchIndex, "ready", false);
+		List<List<Long>> fromSql = queries.stream().map(this::searchQuietly).toList();
+
+		assertThat(fromSql).isEqualTo(fromIndex);
+		// Words match from their start only: "port" is not found inside "report"
+		assertThat(fromSql.get(1)).containsExactly(portId);
+		assertThat(fromSql.get(2)).containsExactly(reportId);
+	}
+
+	@Test
+	void pagedSearchWhileLoadingSkipsRowsThatOnlyMatchAsSubstrings() throws Exception {
+		List<Long> expected = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			createTask("Support ticket " + i, null);
+			expected.add(createTask("Port ticket " + i, null));
+		}
+		ReflectionTestUtils.setField(taskSearchIndex, "ready", false);
+
+		JsonNode first = page("port", null);
+		JsonNode second = page("port", first.get("nextCursor").asString());
+
+		assertThat(ids(first.get("items"))).containsExactlyElementsOf(expected.subList(0, 3));
+		assertThat(first.get("hasMore").asBoolean()).isTrue();
+		assertThat(ids(second.get("items"))).containsExactlyElementsOf(expected.subList(3, 5));
+		assertThat(second.get("hasMore").asBoolean()).isFalse();
+	}
+
+	@Test
+	void otherNodesIndexChangesFromTheBus() throws Exception {
+		TaskSearchIndex otherNode = new TaskSearchIndex(taskRepository, bus);
+		ReflectionTestUtils.invokeMethod(otherNode, "start");
+		try {
+			otherNode.rebuild();
+			long taskId = createTask("Migrate billing", null);
+			awaitMatch(otherNode, "billing", List.of(taskId));
+
+			update(taskId, "Migrate invoices");
+			awaitMatch(otherNode, "invoices", List.of(taskId));
+			assertThat(otherNode.search(project.getId(), "billing", 10)).isEmpty();
+
+			mockMvc.perform(delete(tasksPath() + "/" + taskId).header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+				.andExpect(status().isNoContent());
+			awaitMatch(otherNode, "invoices", List.of());
+		} finally {
+			ReflectionTestUtils.invokeMethod(otherNode, "stop");
+		}
+	}
+
+	private void awaitMatch(TaskSearchIndex index, String query, List<Long> expected) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (!index.search(project.getId(), query, 10).equals(expected) && System.nanoTime() < deadline) {
+			Thread.sleep(20);
+		}
+		assertThat(index.search(project.getId(), query, 10)).isEqualTo(expected);
+	}
+
+	private long createTask(String title, String description) throws Exception {
+		Map<String, String> body = new HashMap<>();
+		body.put("title", title);
+		if (description != null) {
+			body.put("description", description);
+		}
+		String response = mockMvc.perform(post(tasksPath())
+				.header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(jsonMapper.writeValueAsString(body)))
+			.andExpect(status().isCreated())
+			.andReturn().getResponse().getContentAsString();
+		return jsonMapper.readTree(response).get("id").asLong();
+	}
+
+	private void update(long taskId, String title) throws Exception {
+		mockMvc.perform(put(tasksPath() + "/" + taskId)
+				.header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(jsonMapper.writeValueAsString(Map.of("title", title))))
+			.andExpect(status().isOk());
+	}
+
+	private List<Long> search(String query) throws Exception {
+		String response = mockMvc.perform(get(tasksPath())
+				.param("search", query)
+				.header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+			.andExpect(status().isOk())
+			.andReturn().getResponse().getContentAsString();
+		return ids(jsonMapper.readTree(response));
+	}
+
+	private List<Long> searchQuietly(String query) {
+		try {
+			return search(query);
+		} catch (Exception ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	private JsonNode page(String query, String cursor) throws Exception {
+		var request = get(tasksPath() + "/page")
+			.param("search", query)
+			.param("limit", "3")
+			.header(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+		if (cursor != null) {
+			request.param("cursor", cursor);
+		}
+		String response = mockMvc.perform(request)
+			.andExpect(status().isOk())
+			.andReturn().getResponse().getContentAsString();
+		return jsonMapper.readTree(response);
+	}
+
+	private static List<Long> ids(JsonNode items) {
+		List<Long> ids = new ArrayList<>();
+		items.forEach(item -> ids.add(item.get("id").asLong()));
+		return ids;
+	}
+
+	private String tasksPath() {
+		return "/api/projects/" + project.getId() + "/tasks";
+	}
+}
@@ -0,0 +1,101 @@
+package com.taskflow.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.taskflow.entity.Task;
+
+class TaskCursorTests {
+
+	@Test
+	void roundTripsEverySortKey() {
+		Task task = task(42L, LocalDate.of(2026, 3, 9), Task.Priority.HIGH);
+
+		for (TaskQuery.SortKey sortKey : TaskQuery.SortKey.values()) {
+			TaskCursor cursor = TaskCursor.of(task, sortKey);
+
+			assertThat(TaskCursor.decode(cursor.encode(), sortKey)).isEqualTo(cursor);
+		}
+	}
+
+	@Test
+	void carriesTheComparedValue() {
+		Task task = task(42L, LocalDate.of(2026, 3, 9), Task.Priority.HIGH);
+
+		assertThat(TaskCursor.of(task, TaskQuery.SortKey.ID).value()).isEqualTo(42L);
+		assertThat(TaskCursor.of(task, TaskQuery.SortKey.DUE_DATE).value()).isEqualTo(LocalDate.of(2026, 3, 9));
+		assertThat(TaskCursor.of(task, TaskQuery.SortKey.PRIORITY).value()).isEqualTo(2);
+	}
+
+	@Test
+	void undatedTaskSortsAsTheLastDate() {
+		TaskCursor cursor = TaskCursor.of(task(7L, null, Task.Priority.LOW), TaskQuery.SortKey.DUE_DATE);
+
+		assertThat(cursor.value()).isEqualTo(TaskQuery.NO_DUE_DATE);
+		assertThat(cursor.id()).isEqualTo(7L);
+	}
+
+	@Test
+	void encodesUrlSafely() {
+		String encoded = TaskCursor.of(task(Long.MAX_VALUE, LocalDate.of(2026, 12, 31), Task.Priority.MEDIUM),
+			TaskQuery.SortKey.DUE_DATE).encode();
+
+		assertThat(encoded).matches("[A-Za-z0-9_-]+");
+	}
+
+	@Test
+	void rejectsCursorForAnotherSort() {
+		String encoded = TaskCursor.of(task(42L, null, Task.Priority.HIGH), TaskQuery.SortKey.PRIORITY).encode();
+
+		assertThatThrownBy(() -> TaskCursor.decode(encoded, TaskQuery.SortKey.ID))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessage("Invalid cursor");
+	}
+
+	@Test
+	void rejectsMalformedCursors() {
+		for (String cursor : new String[] {
+			"",
+			"not base64!",
+			raw("ID"),
+			raw("ID|5"),
+			raw("ID|5|x"),
+			raw("ID|x|5"),
+			raw("DUE_DATE|2026-13-01|5"),
+			raw("PRIORITY|high|5"),
+			raw("TITLE|a|5")
+		}) {
+			TaskQuery.SortKey sortKey = cursor.isEmpty() ? TaskQuery.SortKey.ID : sortKeyOf(cursor);
+			assertThatThrownBy(() -> TaskCursor.decode(cursor, sortKey))
+				.as(cursor)
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Invalid cursor");
+		}
+	}
+
+	private static TaskQuery.SortKey sortKeyOf(String cursor) {
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			return TaskQuery.SortKey.valueOf(raw.split("\\|")[0]);
+		} catch (IllegalArgumentException ex) {
+			return TaskQuery.SortKey.ID;
+		}
+	}
+
+	private static String raw(String value) {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static Task task(Long id, LocalDate dueDate, Task.Priority priority) {
+		Task task = new Task("Task", null, Task.Status.TODO, priority, dueDate, null);
+		ReflectionTestUtils.setField(task, "id", id);
+		return task;
+	}
+}
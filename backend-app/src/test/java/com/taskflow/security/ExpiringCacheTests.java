@@ -0,0 +1,51 @@
+package com.taskflow.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class ExpiringCacheTests {
+
+	private final ExpiringCache<Long, String> cache = new ExpiringCache<>(100, 60000);
+
+	@Test
+	void stampedPutIsDroppedAfterRemoval() {
+		long stamp = cache.stamp(1L);
+		// An eviction committed while the old value was being loaded
+		cache.remove(1L);
+
+		cache.put(1L, "stale", Long.MAX_VALUE, stamp);
+
+		assertThat(cache.get(1L)).isNull();
+	}
+
+	@Test
+	void stampedPutIsDroppedAfterRemoveIf() {
+		long stamp = cache.stamp(1L);
+		cache.removeIf(key -> key == 1L);
+
+		cache.put(1L, "stale", Long.MAX_VALUE, stamp);
+
+		assertThat(cache.get(1L)).isNull();
+	}
+
+	@Test
+	void stampedPutIsStoredWhenNothingWasRemoved() {
+		long stamp = cache.stamp(1L);
+
+		cache.put(1L, "fresh", Long.MAX_VALUE, stamp);
+
+		assertThat(cache.get(1L)).isEqualTo("fresh");
+	}
+
+	@Test
+	void growingPastMaxSizeDropsTheOldestEntries() {
+		for (long key = 0; key < 150; key++) {
+			cache.put(key, "value", System.currentTimeMillis() + 10000 + key);
+		}
+
+		assertThat(cache.size()).isLessThanOrEqualTo(100);
+		assertThat(cache.get(149L)).isEqualTo("value");
+		assertThat(cache.get(0L)).isNull();
+	}
+}
@@ -0,0 +1,92 @@
+package com.taskflow.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Times {@link JwtUtil#verify} with the verified-token cache warm and with it disabled, from
+ * several threads at once. Not part of the regular suite; run it with
+ * {@code mvn test -Dtest=JwtVerifyHarness -Djwt.verify.threads=N}.
+ */
+@EnabledIfSystemProperty(named = "jwt.verify.threads", matches = "\\d+")
+class JwtVerifyHarness {
+
+	private static final int TOKENS = 1000;
+	private static final int WARMUP_ROUNDS = 200;
+	private static final int ROUNDS = 500;
+
+	@Test
+	void compareVerifyWithCachedLookup() throws Exception {
+		int threads = Integer.getInteger("jwt.verify.threads");
+		JwtUtil cachedUtil = jwtUtil(TOKENS * 2);
+		// Every put is trimmed straight away, so each call parses and checks the signature
+		JwtUtil uncachedUtil = jwtUtil(0);
+
+		String[] tokens = new String[TOKENS];
+		for (int i = 0; i < TOKENS; i++) {
+			tokens[i] = cachedUtil.generateToken((long) i, "user" + i + "@example.com");
+		}
+
+		Operation verify = uncachedUtil::verify;
+		Operation cached = cachedUtil::verify;
+		run(threads, tokens, verify, WARMUP_ROUNDS);
+		run(threads, tokens, cached, WARMUP_ROUNDS);
+
+		long verifyNanos = run(threads, tokens, verify, ROUNDS);
+		long cachedNanos = run(threads, tokens, cached, ROUNDS);
+		long operations = (long) threads * ROUNDS * TOKENS;
+		// Wall time per operation across all threads, so the figures are throughput, not latency
+		System.out.printf("threads=%d verify=%dns/op cached=%dns/op%n",
+			threads, verifyNanos / operations, cachedNanos / operations);
+	}
+
+	private static long run(int threads, String[] tokens, Operation operation, int rounds) throws Exception {
+		ExecutorService pool = Executors.newFixedThreadPool(threads);
+		try {
+			List<Callable<Void>> workers = new ArrayList<>();
+			for (int t = 0; t < threads; t++) {
+				workers.add(() -> {
+					for (int round = 0; round < rounds; round++) {
+						for (String token : tokens) {
+							assertThat(operation.apply(token)).isNotNull();
+						}
+					}
+					return null;
+				});
+			}
+			long startedAt = System.nanoTime();
+			for (Future<Void> worker : pool.invokeAll(workers)) {
+				worker.get();
+			}
+			return System.nanoTime() - startedAt;
+		} finally {
+			pool.shutdown();
+			pool.awaitTermination(10, TimeUnit.SECONDS);
+		}
+	}
+
+	private static JwtUtil jwtUtil(int cacheMaxSize) {
+		JwtUtil jwtUtil = new JwtUtil();
+		ReflectionTestUtils.setField(jwtUtil, "jwtSecret", "taskflow-super-secret-key-please-change-1234567890");
+		ReflectionTestUtils.setField(jwtUtil, "jwtExpirationMs", 86400000L);
+		ReflectionTestUtils.setField(jwtUtil, "verifiedCacheMaxSize", cacheMaxSize);
+		ReflectionTestUtils.setField(jwtUtil, "verifiedCacheTtlMs", 300000L);
+		jwtUtil.init();
+		return jwtUtil;
+	}
+
+	private interface Operation {
+		Object apply(String token);
+	}
+}
@@ -0,0 +1,29 @@
+package com.taskflow.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class NotificationBusMessageTests {
+
+	@Test
+	void framesRoundTripWhenConcatenated() {
+		NotificationBusMessage first = new NotificationBusMessage(1, "user:7", "unread", "3");
+		NotificationBusMessage second = new NotificationBusMessage(2, "project:9", "task.updated", "{\"title\":\"a:b\\tc 12:\"}");
+
+		List<NotificationBusMessage> decoded = NotificationBusMessage.decodeFrames(first.frame() + second.frame());
+
+		assertThat(decoded).containsExactly(first, second);
+	}
+
+	@Test
+	void truncatedFrameIsRejected() {
+		String frame = new NotificationBusMessage(1, "user:7", "unread", "3").frame();
+
+		assertThatThrownBy(() -> NotificationBusMessage.decodeFrames(frame.substring(0, frame.length() - 1)))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+}
@@ -0,0 +1,128 @@
+package com.taskflow.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+/**
+ * Runs two buses against a local Postgres, standing in for two nodes. Enabled with
+ * -Dtaskflow.test.postgres.url=jdbc:postgresql://localhost:5432/taskflow, plus
+ * taskflow.test.postgres.username and taskflow.test.postgres.password when needed.
+ */
+@EnabledIfSystemProperty(named = "taskflow.test.postgres.url", matches = "jdbc:postgresql:.+")
+class PostgresNotificationBusTests {
+
+	@BeforeAll
+	static void createSequence() {
+		new JdbcTemplate(dataSource()).execute("create sequence if not exists notification_event_seq");
+	}
+
+	@Test
+	void publishReachesEveryNode() throws Exception {
+		PostgresNotificationBus nodeA = node("taskflow_bus_test");
+		PostgresNotificationBus nodeB = node("taskflow_bus_test");
+		BlockingQueue<NotificationBusMessage> receivedByA = new LinkedBlockingQueue<>();
+		BlockingQueue<NotificationBusMessage> receivedByB = new LinkedBlockingQueue<>();
+		nodeA.subscribe(receivedByA::add);
+		nodeB.subscribe(receivedByB::add);
+		nodeA.start();
+		nodeB.start();
+		try {
+			// LISTEN is issued asynchronously; give both listeners time to register
+			Thread.sleep(1000);
+
+			nodeA.publish("user:42", "notification", "7");
+
+			NotificationBusMessage received = receivedByB.poll(5, TimeUnit.SECONDS);
+			assertThat(received).isNotNull();
+			assertThat(received.stream()).isEqualTo("user:42");
+			assertThat(received.payload()).isEqualTo("7");
+			assertThat(receivedByA.poll(5, TimeUnit.SECONDS)).isEqualTo(received);
+		} finally {
+			nodeA.stop();
+			nodeB.stop();
+		}
+	}
+
+	@Test
+	void concurrentPublishesArriveInIdOrderOnEveryNode() throws Exception {
+		PostgresNotificationBus nodeA = node("taskflow_bus_order_test");
+		PostgresNotificationBus nodeB = node("taskflow_bus_order_test");
+		BlockingQueue<NotificationBusMessage> receivedByA = new LinkedBlockingQueue<>();
+		BlockingQueue<NotificationBusMessage> receivedByB = new LinkedBlockingQueue<>();
+		nodeA.subscribe(receivedByA::add);
+		nodeB.subscribe(receivedByB::add);
+		nodeA.start();
+		nodeB.start();
+		ExecutorService publishers = Executors.newFixedThreadPool(8);
+		try {
+			Thread.sleep(1000);
+
+			int count = 200;
+			List<Future<?>> publishes = new ArrayList<>();
+			for (int i = 0; i < count; i++) {
+				PostgresNotificationBus node = i % 2 == 0 ? nodeA : nodeB;
+				String payload = Integer.toString(i);
+				publishes.add(publishers.submit(() -> node.publish("project:1", "task.updated", payload)));
+			}
+			for (Future<?> publish : publishes) {
+				publish.get(10, TimeUnit.SECONDS);
+			}
+
+			List<Long> idsAtA = receivedIds(receivedByA, count);
+			List<Long> idsAtB = receivedIds(receivedByB, count);
+			assertThat(idsAtA).isSorted().doesNotHaveDuplicates();
+			assertThat(idsAtB).isEqualTo(idsAtA);
+		} finally {
+			publishers.shutdownNow();
+			nodeA.stop();
+			nodeB.stop();
+		}
+	}
+
+	private static List<Long> receivedIds(BlockingQueue<NotificationBusMessage> received, int count) throws InterruptedException {
+		List<Long> ids = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			NotificationBusMessage message = received.poll(5, TimeUnit.SECONDS);
+			assertThat(message).isNotNull();
+			ids.add(message.id());
+		}
+		return ids;
+	}
+
+	private static PostgresNotificationBus node(String channel) {
+		return new PostgresNotificationBus(dataSource(), url(), username(), password(), channel, 200, 10000);
+	}
+
+	private static String url() {
+		return System.getProperty("taskflow.test.postgres.url");
+	}
+
+	private static String username() {
+		return System.getProperty("taskflow.test.postgres.username", "postgres");
+	}
+
+	private static String password() {
+		return System.getProperty("taskflow.test.postgres.password", "postgres");
+	}
+
+	private static DriverManagerDataSource dataSource() {
+		DriverManagerDataSource dataSource = new DriverManagerDataSource(url());
+		dataSource.setUsername(username());
+		dataSource.setPassword(password());
+		return dataSource;
+	}
+}
@@ -0,0 +1,104 @@
+package com.taskflow.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+/**
+ * Chunked purging against a migrated H2 database of its own.
+ */
+class RetentionPurgerTests {
+
+	private static final LocalDateTime NOW = LocalDateTime.now();
+
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void createDatabase() {
+		DriverManagerDataSource dataSource = new DriverManagerDataSource(
+			"jdbc:h2:mem:retention-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+		Flyway.configure()
+			.dataSource(dataSource)
+			.locations("classpath:db/migration", "classpath:db/vendor/h2")
+			.load()
+			.migrate();
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		jdbcTemplate.update("insert into users (id, email, password_hash) values (1, 'a@example.com', 'hash')");
+	}
+
+	@Test
+	void deletesOldestInChunksUpToTheRunLimit() {
+		for (int day = 40; day < 50; day++) {
+			notification(true, NOW.minusDays(day));
+		}
+		RetentionPurger purger = purger(3, 2);
+
+		purger.purge();
+
+		// Two chunks of three, the oldest first
+		assertThat(jdbcTemplate.queryForList("select created_at from notifications order by created_at", Timestamp.class))
+			.hasSize(4)
+			.allSatisfy(createdAt -> assertThat(createdAt.toLocalDateTime()).isAfter(NOW.minusDays(44)));
+
+		purger.purge();
+
+		assertThat(count()).isZero();
+		assertThat(jdbcTemplate.queryForObject("select count(*) from job_leases", Integer.class)).isZero();
+	}
+
+	@Test
+	void keepsUnreadAndRecentNotifications() {
+		notification(true, NOW.minusDays(40));
+		notification(false, NOW.minusDays(40));
+		notification(true, NOW.minusDays(5));
+
+		purger(500, 10).purge();
+
+		assertThat(count()).isEqualTo(2);
+	}
+
+	@Test
+	void skipsTheRunWhileAnotherNodeHoldsTheLease() {
+		notification(true, NOW.minusDays(40));
+		jdbcTemplate.update("insert into job_leases (name, owner, expires_at) values ('retention-purge', 'other', ?)",
+			Timestamp.valueOf(NOW.plusMinutes(5)));
+
+		purger(500, 10).purge();
+
+		assertThat(count()).isEqualTo(1);
+		assertThat(jdbcTemplate.queryForObject("select owner from job_leases", String.class)).isEqualTo("other");
+	}
+
+	@Test
+	void takesOverAnExpiredLease() {
+		notification(true, NOW.minusDays(40));
+		jdbcTemplate.update("insert into job_leases (name, owner, expires_at) values ('retention-purge', 'other', ?)",
+			Timestamp.valueOf(NOW.minusMinutes(5)));
+
+		purger(500, 10).purge();
+
+		assertThat(count()).isZero();
+	}
+
+	private RetentionPurger purger(int batchSize, int maxBatchesPerRun) {
+		return new RetentionPurger(jdbcTemplate, 30, 0, batchSize, 0, maxBatchesPerRun, 3_600_000, 3_600_000, 60_000);
+	}
+
+	private void notification(boolean read, LocalDateTime createdAt) {
+		jdbcTemplate.update(
+			"insert into notifications (user_id, type, title, is_read, created_at) values (1, 'TASK_ASSIGNED', 'Title', ?, ?)",
+			read, Timestamp.valueOf(createdAt));
+	}
+
+	private int count() {
+		return jdbcTemplate.queryForObject("select count(*) from notifications", Integer.class);
+	}
+}
@@ -0,0 +1,53 @@
+package com.taskflow.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+/**
+ * Runs the S3 backend against a local S3-compatible server such as MinIO. Enabled with
+ * -Dtaskflow.test.s3.endpoint=http://localhost:9000, plus taskflow.test.s3.bucket,
+ * taskflow.test.s3.access-key and taskflow.test.s3.secret-key when needed. The bucket must exist.
+ */
+@EnabledIfSystemProperty(named = "taskflow.test.s3.endpoint", matches = "https?://.+")
+class S3StorageBackendTests {
+
+	@Test
+	void storesReadsRangesAndDeletes() throws Exception {
+		S3StorageBackend storage = new S3StorageBackend(
+				System.getProperty("taskflow.test.s3.bucket", "taskflow-test"),
+				"us-east-1",
+				System.getProperty("taskflow.test.s3.endpoint"),
+				true,
+				System.getProperty("taskflow.test.s3.access-key", "minioadmin"),
+				System.getProperty("taskflow.test.s3.secret-key", "minioadmin"),
+				"tests/" + UUID.randomUUID());
+		try {
+			Path source = Files.createTempFile("s3-backend-", ".txt");
+			Files.writeString(source, "0123456789", StandardCharsets.UTF_8);
+
+			storage.put("object", source);
+
+			assertThat(source).doesNotExist();
+			assertThat(storage.stat("object").size()).isEqualTo(10);
+			try (InputStream in = Channels.newInputStream(storage.open("object", 3, 4))) {
+				assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("3456");
+			}
+
+			storage.delete("object");
+
+			assertThat(storage.stat("object")).isNull();
+			assertThat(storage.exists("object")).isFalse();
+		} finally {
+			storage.close();
+		}
+	}
+}
@@ -0,0 +1,91 @@
+package com.taskflow.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.taskflow.entity.Project;
+import com.taskflow.entity.Task;
+import com.taskflow.repository.TaskRepository;
+
+class TaskSearchIndexTests {
+
+	private final TaskRepository taskRepository = mock(TaskRepository.class);
+	private final TaskSearchIndex index = new TaskSearchIndex(taskRepository, new InProcessNotificationBus());
+	private final Project project = project(1L);
+
+	@Test
+	void notReadyUntilTheFirstRebuildCompletes() {
+		when(taskRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(List.of(task(10L, "Write docs"))));
+
+		assertThat(index.isReady()).isFalse();
+		index.rebuild();
+
+		assertThat(index.isReady()).isTrue();
+		assertThat(index.search(1L, "docs", 10)).containsExactly(10L);
+	}
+
+	@Test
+	void rebuildKeepsChangesMadeAfterItsPageWasRead() {
+		// The page holds the old title; the update lands after it was read, before it is indexed
+		Task stale = task(10L, "Old title");
+		when(taskRepository.findAll(any(Pageable.class))).thenAnswer(invocation -> {
+			index.index(task(10L, "New title"));
+			return new PageImpl<>(List.of(stale));
+		});
+
+		index.rebuild();
+
+		assertThat(index.search(1L, "new", 10)).containsExactly(10L);
+		assertThat(index.search(1L, "old", 10)).isEmpty();
+	}
+
+	@Test
+	void rebuildDoesNotRestoreTasksRemovedWhileItRan() {
+		when(taskRepository.findAll(any(Pageable.class))).thenAnswer(invocation -> {
+			index.remove(1L, 10L);
+			return new PageImpl<>(List.of(task(10L, "Deleted task"), task(11L, "Kept task")));
+		});
+
+		index.rebuild();
+
+		assertThat(index.search(1L, "task", 10)).containsExactly(11L);
+	}
+
+	@Test
+	void searchAmongRanksLikeTheIndex() {
+		List<Task> tasks = List.of(
+			task(10L, "Report", "report report"),
+			task(11L, "Notes", "see report"),
+			task(12L, "Support", null));
+		tasks.forEach(index::index);
+
+		assertThat(TaskSearchIndex.searchAmong("report", tasks)).isEqualTo(index.search(1L, "report", 10));
+		assertThat(TaskSearchIndex.searchAmong("port", tasks)).isEmpty();
+		assertThat(TaskSearchIndex.sqlTerms("\"quarterly report\" rep")).containsExactly("quarterly", "report", "rep");
+	}
+
+	private Task task(Long id, String title) {
+		return task(id, title, null);
+	}
+
+	private Task task(Long id, String title, String description) {
+		Task task = new Task(title, description, Task.Status.TODO, Task.Priority.MEDIUM, null, project);
+		ReflectionTestUtils.setField(task, "id", id);
+		return task;
+	}
+
+	private static Project project(Long id) {
+		Project project = new Project("Project", null);
+		ReflectionTestUtils.setField(project, "id", id);
+		return project;
+	}
+}
@@ -0,0 +1,156 @@
+package com.taskflow.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.taskflow.entity.FileAttachment;
+import com.taskflow.entity.Project;
+import com.taskflow.entity.Task;
+import com.taskflow.entity.User;
+import com.taskflow.repository.FileAttachmentRepository;
+import com.taskflow.repository.ProjectRepository;
+import com.taskflow.repository.TaskRepository;
+import com.taskflow.repository.UserRepository;
+
+/**
+ * Preview generation against real storage and rows: flags on shared files, and the pixel limit
+ * in both the background path and the backfill.
+ */
+@SpringBootTest(properties = "file.upload-dir=target/thumbnail-tests")
+class ThumbnailGenerationTests {
+
+	private static final int SIZE = 64;
+	private static final long MAX_PIXELS = 40 * 40;
+
+	@Autowired
+	private FileUploadService fileUploadService;
+
+	@Autowired
+	private FileAttachmentRepository fileAttachmentRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private ProjectRepository projectRepository;
+
+	@Autowired
+	private TaskRepository taskRepository;
+
+	private ThumbnailService thumbnailService;
+	private User owner;
+	private Task task;
+
+	@BeforeEach
+	void createTask() {
+		thumbnailService = new ThumbnailService(fileUploadService, fileAttachmentRepository, SIZE, 1, 10, MAX_PIXELS);
+		String run = UUID.randomUUID().toString();
+		owner = userRepository.save(new User("thumbnail-" + run + "@example.com", "hash"));
+		Project project = projectRepository.save(new Project("Thumbnail " + run, owner));
+		task = taskRepository.save(new Task("Task " + run, null, Task.Status.TODO, Task.Priority.MEDIUM, null, project));
+	}
+
+	@AfterEach
+	void stopWorkers() {
+		ReflectionTestUtils.invokeMethod(thumbnailService, "stop");
+	}
+
+	@Test
+	void flagsEveryAttachmentOnTheSharedFile() throws Exception {
+		byte[] png = png(80, 20);
+		FileAttachment first = upload("a.png", png);
+		FileAttachment second = upload("b.png", png);
+
+		thumbnailService.generate(first.getStoragePath());
+
+		assertThat(reload(first).isThumbnailAvailable()).isTrue();
+		assertThat(reload(second).isThumbnailAvailable()).isTrue();
+		String previewKey = fileUploadService.getThumbnailKey(first.getStoragePath());
+		BufferedImage preview;
+		try (InputStream in = Channels.newInputStream(
+				fileUploadService.open(previewKey, 0, fileUploadService.stat(previewKey).size()))) {
+			preview = ImageIO.read(in);
+		}
+		assertThat(preview.getWidth()).isEqualTo(SIZE);
+		assertThat(preview.getHeight()).isEqualTo(SIZE / 4);
+	}
+
+	@Test
+	void laterAttachmentOnAPreviewedFileIsOnlyFlagged() throws Exception {
+		byte[] png = png(20, 20);
+		FileAttachment first = upload("a.png", png);
+		thumbnailService.generate(first.getStoragePath());
+		FileAttachment later = upload("b.png", png);
+
+		thumbnailService.generate(later.getStoragePath());
+
+		assertThat(reload(later).isThumbnailAvailable()).isTrue();
+	}
+
+	@Test
+	void skipsImagesOverThePixelLimit() throws Exception {
+		FileAttachment oversized = upload("big.png", png(41, 40));
+
+		thumbnailService.generate(oversized.getStoragePath());
+
+		assertThat(reload(oversized).isThumbnailAvailable()).isFalse();
+		assertThat(fileUploadService.fileExists(fileUploadService.getThumbnailKey(oversized.getStoragePath()))).isFalse();
+	}
+
+	@Test
+	void backfillPreviewsWhatItCanAndLeavesTheRestUnflagged() throws Exception {
+		FileAttachment small = upload("small.png", png(30, 30));
+		FileAttachment oversized = upload("big.png", png(50, 50));
+
+		new ThumbnailBackfill(fileAttachmentRepository, thumbnailService, 1).run(null);
+
+		assertThat(reload(small).isThumbnailAvailable()).isTrue();
+		assertThat(reload(oversized).isThumbnailAvailable()).isFalse();
+	}
+
+	private FileAttachment upload(String fileName, byte[] contents) throws IOException {
+		MockMultipartFile file = new MockMultipartFile("file", fileName, "image/png", contents);
+		return fileUploadService.saveFile(file, storagePath -> {
+			FileAttachment created = new FileAttachment(fileName, "image/png", (long) contents.length, storagePath, owner);
+			created.setTask(task);
+			return fileAttachmentRepository.save(created);
+		});
+	}
+
+	private FileAttachment reload(FileAttachment attachment) {
+		return fileAttachmentRepository.findById(attachment.getId()).orElseThrow();
+	}
+
+	/**
+	 * A PNG of random colour, so each test stores its own object.
+	 */
+	private static byte[] png(int width, int height) throws IOException {
+		BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+		int rgb = ThreadLocalRandom.current().nextInt(0x1000000);
+		for (int x = 0; x < width; x++) {
+			for (int y = 0; y < height; y++) {
+				image.setRGB(x, y, rgb);
+			}
+		}
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		ImageIO.write(image, "png", out);
+		return out.toByteArray();
+	}
+}
@@ -0,0 +1,73 @@
+package com.taskflow.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.taskflow.repository.NotificationRepository;
+
+/**
+ * Two nodes sharing one bus, each with its own in-memory counter, as behind a load balancer.
+ */
+class UnreadCountAcrossNodesTests {
+
+	private static final Long USER_ID = 7L;
+
+	private final InProcessNotificationBus bus = new InProcessNotificationBus();
+	private final NotificationRepository repositoryA = mock(NotificationRepository.class);
+	private final NotificationRepository repositoryB = mock(NotificationRepository.class);
+	private final UnreadNotificationCounter counterA = new UnreadNotificationCounter(repositoryA);
+	private final UnreadNotificationCounter counterB = new UnreadNotificationCounter(repositoryB);
+	private final NotificationStreamService nodeA = node(counterA);
+	private final NotificationStreamService nodeB = node(counterB);
+
+	@BeforeEach
+	void start() {
+		when(repositoryA.countByUserIdAndIsReadFalse(USER_ID)).thenReturn(5);
+		when(repositoryB.countByUserIdAndIsReadFalse(USER_ID)).thenReturn(5);
+		nodeA.start();
+		nodeB.start();
+	}
+
+	@AfterEach
+	void stop() {
+		nodeA.stop();
+		nodeB.stop();
+	}
+
+	@Test
+	void changesOnOneNodeReachTheOther() {
+		counterA.get(USER_ID);
+		counterB.get(USER_ID);
+
+		counterA.added(USER_ID, 1);
+		nodeA.sendUnreadChange(USER_ID, 1);
+		assertThat(counterA.get(USER_ID)).isEqualTo(6);
+		assertThat(counterB.get(USER_ID)).isEqualTo(6);
+
+		counterB.read(USER_ID, 4);
+		nodeB.sendUnreadChange(USER_ID, -4);
+		assertThat(counterA.get(USER_ID)).isEqualTo(2);
+		assertThat(counterB.get(USER_ID)).isEqualTo(2);
+	}
+
+	@Test
+	void untrackedUserIsSeededFromTheDatabaseInstead() {
+		counterA.get(USER_ID);
+
+		counterA.added(USER_ID, 1);
+		nodeA.sendUnreadChange(USER_ID, 1);
+		// The database now holds the new row; adding the delta as well would count it twice
+		when(repositoryB.countByUserIdAndIsReadFalse(USER_ID)).thenReturn(6);
+
+		assertThat(counterB.get(USER_ID)).isEqualTo(6);
+	}
+
+	private NotificationStreamService node(UnreadNotificationCounter counter) {
+		return new NotificationStreamService(bus, counter, 32, 1, 60000, 10000, 32, 600000);
+	}
+}
@@ -0,0 +1,39 @@
+package com.taskflow.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Test;
+
+import com.taskflow.repository.NotificationRepository;
+
+class UnreadNotificationCounterTests {
+
+	private final NotificationRepository notificationRepository = mock(NotificationRepository.class);
+	private final UnreadNotificationCounter counter = new UnreadNotificationCounter(notificationRepository);
+
+	@Test
+	void readOnUnseededCounterReturnsCommittedCount() {
+		// 5 unread, one just marked read and committed
+		when(notificationRepository.countByUserIdAndIsReadFalse(7L)).thenReturn(4);
+
+		assertThat(counter.read(7L, 1)).isEqualTo(4);
+		assertThat(counter.get(7L)).isEqualTo(4);
+	}
+
+	@Test
+	void readOnSeededCounterSubtracts() {
+		when(notificationRepository.countByUserIdAndIsReadFalse(7L)).thenReturn(5);
+		counter.get(7L);
+
+		assertThat(counter.read(7L, 2)).isEqualTo(3);
+	}
+
+	@Test
+	void addedOnUnseededCounterReturnsCommittedCount() {
+		when(notificationRepository.countByUserIdAndIsReadFalse(7L)).thenReturn(6);
+
+		assertThat(counter.added(7L, 1)).isEqualTo(6);
+	}
+}
@@ -49,6 +49,12 @@ interface ActivityLog {
   createdAt: string;
 }
 
+interface ActivityPage {
+  items: ActivityLog[];
+  nextCursor: string | null;
+  hasMore: boolean;
+}
+
 interface TaskAssignee {
   id: number;
   email: string;
@@ -196,8 +202,9 @@ export default function ProjectDetail() {
   const fetchActivity = async () => {
     try {
       setLoadingActivity(true);
-      const data = await apiRequest<ActivityLog[]>(`/projects/${projectId}/activity`, { method: 'GET' });
-      setActivity(data || []);
+      // The newest page is enough for the panel and the report
+      const data = await apiRequest<ActivityPage>(`/projects/${projectId}/activity/page?limit=100`, { method: 'GET' });
+      setActivity(data?.items || []);
     } catch (err) {
       setActivity([]);
     } finally {